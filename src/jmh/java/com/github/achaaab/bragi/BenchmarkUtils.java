@@ -0,0 +1,70 @@
+package com.github.achaaab.bragi;
+
+import com.github.achaaab.bragi.common.Settings;
+
+import java.util.Random;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.sin;
+
+/**
+ * Utility methods for benchmarks.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class BenchmarkUtils {
+
+	/**
+	 * Number of samples processed by a benchmark invocation. Benchmarks declare it as the number of operations per
+	 * invocation, so that results are given per sample.
+	 */
+	public static final int SAMPLE_COUNT = 1024;
+
+	private static final long SEED = 0x5EED;
+
+	/**
+	 * @param sampleCount number of samples to generate
+	 * @return random samples in volts, between minimal voltage and maximal voltage
+	 * @since 0.2.1
+	 */
+	public static float[] randomSamples(int sampleCount) {
+
+		var random = new Random(SEED);
+		var minimalVoltage = Settings.INSTANCE.minimalVoltage();
+		var maximalVoltage = Settings.INSTANCE.maximalVoltage();
+		var samples = new float[sampleCount];
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			samples[sampleIndex] = minimalVoltage + random.nextFloat() * (maximalVoltage - minimalVoltage);
+		}
+
+		return samples;
+	}
+
+	/**
+	 * @param sampleCount number of samples to generate
+	 * @param amplitude modulation amplitude in volts
+	 * @return slow sine modulation samples in volts, between {@code -amplitude} and {@code amplitude}
+	 * @since 0.2.1
+	 */
+	public static float[] modulationSamples(int sampleCount, float amplitude) {
+
+		var samples = new float[sampleCount];
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			samples[sampleIndex] = (float) (amplitude * sin(2 * PI * sampleIndex / sampleCount));
+		}
+
+		return samples;
+	}
+
+	/**
+	 * private constructor to prevent instantiation of this utility class
+	 *
+	 * @since 0.2.1
+	 */
+	private BenchmarkUtils() {
+
+	}
+}
@@ -0,0 +1,65 @@
+package com.github.achaaab.bragi.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static com.github.achaaab.bragi.BenchmarkUtils.randomSamples;
+import static com.github.achaaab.bragi.common.Interpolator.CUBIC_HERMITE_SPLINE;
+import static java.lang.Math.round;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link CubicHermiteSpline} resampling to 96 kHz, in nanoseconds per interpolated sample.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CubicHermiteSplineBenchmark {
+
+	private static final int TARGET_SAMPLE_RATE = 96_000;
+
+	@Param({ "8000", "44100", "48000" })
+	public int sourceSampleRate;
+
+	private float[] sourceSamples;
+	private float[] targetSamples;
+
+	/**
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() {
+
+		sourceSamples = randomSamples(round((float) SAMPLE_COUNT * sourceSampleRate / TARGET_SAMPLE_RATE));
+		targetSamples = new float[SAMPLE_COUNT];
+	}
+
+	/**
+	 * @return interpolated samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] interpolate() {
+
+		CUBIC_HERMITE_SPLINE.interpolate(sourceSamples, targetSamples);
+		return targetSamples;
+	}
+}
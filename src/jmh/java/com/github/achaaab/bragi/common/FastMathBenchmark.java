@@ -0,0 +1,189 @@
+package com.github.achaaab.bragi.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static com.github.achaaab.bragi.BenchmarkUtils.randomSamples;
+import static com.github.achaaab.bragi.common.FastMath.MAXIMAL_RELATIVE_ERROR;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.pow;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link FastMath} against {@link Math}, in nanoseconds per call. Before benchmarking, the relative error of
+ * each fast function is checked against {@link FastMath#MAXIMAL_RELATIVE_ERROR} over its useful range.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastMathBenchmark {
+
+	private static final int ERROR_SAMPLE_COUNT = 1_000_000;
+
+	private float[] samples;
+
+	/**
+	 * @throws IllegalStateException if a fast function exceeds its error bound
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() {
+
+		checkError("exp2", FastMath::exp2, x -> pow(2.0, x), -64.0, 64.0);
+		checkError("exp", FastMath::exp, Math::exp, -40.0, 40.0);
+		checkError("dbToGain", FastMath::dbToGain, decibels -> pow(10.0, decibels / 20.0), -200.0, 200.0);
+
+		samples = randomSamples(SAMPLE_COUNT);
+	}
+
+	/**
+	 * Compares a fast function to its reference over a range.
+	 *
+	 * @param name name of the function
+	 * @param function fast function
+	 * @param reference reference function
+	 * @param minimum minimal argument
+	 * @param maximum maximal argument
+	 * @throws IllegalStateException if the maximal relative error exceeds {@link FastMath#MAXIMAL_RELATIVE_ERROR}
+	 * @since 0.2.1
+	 */
+	private static void checkError(String name, DoubleUnaryOperator function, DoubleUnaryOperator reference,
+			double minimum, double maximum) {
+
+		var maximalError = 0.0;
+
+		for (var sampleIndex = 0; sampleIndex <= ERROR_SAMPLE_COUNT; sampleIndex++) {
+
+			var x = minimum + (maximum - minimum) * sampleIndex / ERROR_SAMPLE_COUNT;
+			var expected = reference.applyAsDouble(x);
+			var actual = function.applyAsDouble(x);
+
+			maximalError = max(maximalError, abs(actual - expected) / expected);
+		}
+
+		if (maximalError > MAXIMAL_RELATIVE_ERROR) {
+			throw new IllegalStateException(name + " relative error " + maximalError + " exceeds its bound");
+		}
+	}
+
+	/**
+	 * @return sum of the results
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public double mathPow2() {
+
+		var sum = 0.0;
+
+		for (var sample : samples) {
+			sum += pow(2.0, sample);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @return sum of the results
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public double fastExp2() {
+
+		var sum = 0.0;
+
+		for (var sample : samples) {
+			sum += FastMath.exp2(sample);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @return sum of the results
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public double mathExp() {
+
+		var sum = 0.0;
+
+		for (var sample : samples) {
+			sum += Math.exp(sample);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @return sum of the results
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public double fastExp() {
+
+		var sum = 0.0;
+
+		for (var sample : samples) {
+			sum += FastMath.exp(sample);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @return sum of the results
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public double mathDbToGain() {
+
+		var sum = 0.0;
+
+		for (var sample : samples) {
+			sum += pow(10.0, sample * 4.0 / 20.0);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @return sum of the results
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public double fastDbToGain() {
+
+		var sum = 0.0;
+
+		for (var sample : samples) {
+			sum += FastMath.dbToGain(sample * 4.0);
+		}
+
+		return sum;
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.achaaab.bragi.core.module.consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sound.sampled.AudioFormat;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static com.github.achaaab.bragi.BenchmarkUtils.randomSamples;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks the conversion of stereo samples to line data by {@link Speaker}, in nanoseconds per frame. No line is
+ * opened.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpeakerBenchmark {
+
+	private static final int CHANNEL_COUNT = 2;
+
+	@Param({ "16", "24" })
+	public int sampleSize;
+
+	private Speaker speaker;
+	private AudioFormat format;
+	private float[][] samples;
+
+	/**
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() {
+
+		speaker = new Speaker();
+		format = new AudioFormat(96_000, sampleSize, CHANNEL_COUNT, true, true);
+		samples = new float[][] { randomSamples(SAMPLE_COUNT), randomSamples(SAMPLE_COUNT) };
+	}
+
+	/**
+	 * @return number of data bytes
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public int mix() {
+		return speaker.mix(samples, format);
+	}
+}
@@ -0,0 +1,110 @@
+package com.github.achaaab.bragi.core.module.producer;
+
+import com.github.achaaab.bragi.core.module.producer.wave.Wave;
+import com.github.achaaab.bragi.core.module.producer.wave.Waveform;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.Kernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static java.lang.Math.pow;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link UnisonVco} stereo rendering, in nanoseconds per frame. The "waves" benchmark renders the same
+ * voices with a {@link Wave} each, summed to 2 channels, as the processing of a patch of VCOs and mixers would do
+ * without its threads and buffers.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnisonVcoBenchmark {
+
+	@Param({ "SAWTOOTH", "SINE" })
+	public String waveform;
+
+	@Param({ "1", "7", "16" })
+	public int voiceCount;
+
+	private UnisonVco unisonVco;
+	private Wave[] waves;
+	private float[][] inputChunks;
+	private float[] waveSamples;
+	private float[] leftSamples;
+	private float[] rightSamples;
+
+	/**
+	 * @throws ReflectiveOperationException if the waveform parameter is not a waveform constant
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+
+		var waveformInstance = (Waveform) Waveform.class.getField(waveform).get(null);
+
+		unisonVco = new UnisonVco();
+		unisonVco.setWaveform(waveformInstance);
+		unisonVco.setVoiceCount(voiceCount);
+
+		waves = new Wave[voiceCount];
+
+		for (var voice = 0; voice < voiceCount; voice++) {
+			waves[voice] = new Wave(waveformInstance, 440.0 * pow(2.0, (voice - voiceCount / 2) / 120.0));
+		}
+
+		inputChunks = new float[0][];
+		waveSamples = new float[SAMPLE_COUNT];
+		leftSamples = new float[SAMPLE_COUNT];
+		rightSamples = new float[SAMPLE_COUNT];
+	}
+
+	/**
+	 * @return left samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] unison() {
+
+		unisonVco.process(null, ChunkShape.AUDIO, leftSamples, rightSamples);
+		return leftSamples;
+	}
+
+	/**
+	 * @return left samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] waves() {
+
+		var gain = (float) (1.0 / voiceCount);
+
+		for (var voice = 0; voice < voiceCount; voice++) {
+
+			waves[voice].process(inputChunks, waveSamples);
+
+			Kernels.INSTANCE.mix(leftSamples, voice == 0 ? 0.0f : 1.0f, waveSamples, gain, leftSamples);
+			Kernels.INSTANCE.mix(rightSamples, voice == 0 ? 0.0f : 1.0f, waveSamples, gain, rightSamples);
+		}
+
+		return leftSamples;
+	}
+}
@@ -0,0 +1,128 @@
+package com.github.achaaab.bragi.core.module.producer.wave;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static com.github.achaaab.bragi.BenchmarkUtils.modulationSamples;
+import static com.github.achaaab.bragi.core.module.producer.wave.Wave.LINEAR_MODULATION_INPUT;
+import static com.github.achaaab.bragi.core.module.producer.wave.Wave.MODULATION_INPUT;
+import static com.github.achaaab.bragi.core.module.producer.wave.Wave.PHASE_MODULATION_INPUT;
+import static com.github.achaaab.bragi.core.module.producer.wave.Wave.SYNC_INPUT;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link Wave} sample generation for each {@link Waveform}, in nanoseconds per sample.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveBenchmark {
+
+	private static final int POLLUTION_CHUNK_COUNT = 2_000;
+
+	@Param({
+			"SINE",
+			"TRIANGLE",
+			"SAWTOOTH",
+			"REVERSE_SAWTOOTH",
+			"SAWTOOTH_TRIANGULAR",
+			"SQUARE",
+			"PULSE_4",
+			"PULSE_8",
+			"ANALOG_SQUARE" })
+	public String waveform;
+
+	@Param({ "false", "true" })
+	public boolean modulated;
+
+	@Param({ "true", "false" })
+	public boolean bandLimited;
+
+	/**
+	 * Whether every waveform is processed during setup, so that call sites shared by waveforms are megamorphic, as in
+	 * an application using several waveforms.
+	 */
+	@Param({ "false", "true" })
+	public boolean megamorphic;
+
+	/**
+	 * Audio-rate input receiving a modulation: "none", "linear", "phase" or "sync".
+	 */
+	@Param({ "none", "linear", "phase", "sync" })
+	public String audioRateInput;
+
+	private Wave wave;
+	private float[][] inputChunks;
+	private float[] samples;
+
+	/**
+	 * @throws ReflectiveOperationException if the waveform parameter is not a waveform constant
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+
+		var waveformInstance = (Waveform) Waveform.class.getField(waveform).get(null);
+
+		inputChunks = new float[SYNC_INPUT + 1][];
+		inputChunks[MODULATION_INPUT] = modulated ? modulationSamples(SAMPLE_COUNT, 1.0f) : null;
+
+		var audioRateInputIndex = switch (audioRateInput) {
+			case "linear" -> LINEAR_MODULATION_INPUT;
+			case "phase" -> PHASE_MODULATION_INPUT;
+			case "sync" -> SYNC_INPUT;
+			default -> -1;
+		};
+
+		if (audioRateInputIndex >= 0) {
+			inputChunks[audioRateInputIndex] = modulationSamples(SAMPLE_COUNT, 1.0f);
+		}
+
+		samples = new float[SAMPLE_COUNT];
+
+		if (megamorphic) {
+
+			for (var otherWaveform : Waveform.INSTANCES) {
+
+				var otherWave = new Wave(otherWaveform, 440.0);
+				otherWave.setBandLimited(bandLimited);
+
+				for (var chunkIndex = 0; chunkIndex < POLLUTION_CHUNK_COUNT; chunkIndex++) {
+					otherWave.process(inputChunks, samples);
+				}
+			}
+		}
+
+		wave = new Wave(waveformInstance, 440.0);
+		wave.setBandLimited(bandLimited);
+	}
+
+	/**
+	 * @return generated samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] process() {
+
+		wave.process(inputChunks, samples);
+		return samples;
+	}
+}
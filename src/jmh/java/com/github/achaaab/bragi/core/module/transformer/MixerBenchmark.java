@@ -0,0 +1,63 @@
+package com.github.achaaab.bragi.core.module.transformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static com.github.achaaab.bragi.BenchmarkUtils.randomSamples;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link Mixer} mixing of 2 inputs, in nanoseconds per sample.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MixerBenchmark {
+
+	private Mixer mixer;
+	private float[][] inputChunks;
+	private float[] outputChunk;
+
+	/**
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() {
+
+		mixer = new Mixer();
+
+		inputChunks = new float[][] {
+				randomSamples(SAMPLE_COUNT),
+				randomSamples(SAMPLE_COUNT) };
+
+		outputChunk = new float[SAMPLE_COUNT];
+	}
+
+	/**
+	 * @return mixed samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] process() {
+
+		mixer.process(inputChunks, outputChunk);
+		return outputChunk;
+	}
+}
@@ -0,0 +1,73 @@
+package com.github.achaaab.bragi.core.module.transformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static com.github.achaaab.bragi.BenchmarkUtils.modulationSamples;
+import static com.github.achaaab.bragi.BenchmarkUtils.randomSamples;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link LowPassVcf} and {@link HighPassVcf} filtering, in nanoseconds per sample.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VcfBenchmark {
+
+	@Param({ LowPassVcf.DEFAULT_NAME, HighPassVcf.DEFAULT_NAME })
+	public String response;
+
+	@Param({ "false", "true" })
+	public boolean modulated;
+
+	private Vcf vcf;
+	private float[][] inputChunks;
+	private float[] outputChunk;
+
+	/**
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() {
+
+		vcf = response.equals(LowPassVcf.DEFAULT_NAME) ? new LowPassVcf() : new HighPassVcf();
+		vcf.setEmphasis(0.8f);
+		vcf.setCutoffFrequency(2000.0f);
+
+		inputChunks = new float[][] {
+				randomSamples(SAMPLE_COUNT),
+				modulated ? modulationSamples(SAMPLE_COUNT, 1.0f) : null };
+
+		outputChunk = new float[SAMPLE_COUNT];
+	}
+
+	/**
+	 * @return filtered samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] process() {
+
+		vcf.process(inputChunks, outputChunk);
+		return outputChunk;
+	}
+}
@@ -0,0 +1,95 @@
+package com.github.achaaab.bragi.dsp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.SAMPLE_COUNT;
+import static com.github.achaaab.bragi.BenchmarkUtils.randomSamples;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks scalar and vector {@link Kernels}, in nanoseconds per sample. The vector kernels are compiled by the
+ * vector profile, which also gives {@code --add-modules jdk.incubator.vector}: run with {@code -P benchmark,vector}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KernelsBenchmark {
+
+	@Param({ "scalar", "vector" })
+	public String implementation;
+
+	private Kernels kernels;
+	private float[] input0;
+	private float[] input1;
+	private float[] output;
+
+	/**
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() {
+
+		kernels = implementation.equals("vector") ? Kernels.createVectorKernels() : Kernels.SCALAR;
+
+		if (!kernels.name().startsWith(implementation)) {
+			throw new IllegalStateException(implementation + " kernels are not available");
+		}
+
+		input0 = randomSamples(SAMPLE_COUNT);
+		input1 = randomSamples(SAMPLE_COUNT);
+		output = new float[SAMPLE_COUNT];
+	}
+
+	/**
+	 * @return scaled samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] scale() {
+
+		kernels.scale(input0, 0.5f, output);
+		return output;
+	}
+
+	/**
+	 * @return mixed samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] mix() {
+
+		kernels.mix(input0, 0.5f, input1, 0.25f, output);
+		return output;
+	}
+
+	/**
+	 * @return normalized and clipped samples
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SAMPLE_COUNT)
+	public float[] normalize() {
+
+		kernels.normalize(input0, -2.5f, 1.5f, 0.0f, -5.0f, 5.0f, output);
+		return output;
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.achaaab.bragi.dsp.fft;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static com.github.achaaab.bragi.BenchmarkUtils.randomSamples;
+import static java.lang.System.arraycopy;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link FastFourierTransform#forward(float[])} with the size and the window used by the spectrum
+ * analyzer, in nanoseconds per sample. Since the window is applied in place, each invocation first restores the
+ * samples to transform.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastFourierTransformBenchmark {
+
+	private static final int SIZE = 1 << 15;
+
+	private FastFourierTransform fourierTransform;
+	private float[] samples;
+	private float[] buffer;
+
+	/**
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() {
+
+		fourierTransform = new FastFourierTransform(SIZE, 96_000);
+		fourierTransform.setWindow(new HammingWindow());
+
+		samples = randomSamples(SIZE);
+		buffer = new float[SIZE];
+	}
+
+	/**
+	 * @return transform
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public FastFourierTransform forward() {
+
+		arraycopy(samples, 0, buffer, 0, SIZE);
+		fourierTransform.forward(buffer);
+		return fourierTransform;
+	}
+}
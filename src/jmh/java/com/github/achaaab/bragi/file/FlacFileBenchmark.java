@@ -0,0 +1,94 @@
+package com.github.achaaab.bragi.file;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.openjdk.jmh.annotations.Scope.Thread;
+
+/**
+ * Benchmarks {@link FlacFile#readChunk()} decoding, in nanoseconds per frame. Each invocation decodes at least
+ * {@link #FRAME_COUNT} frames. The file is reopened when its end is reached.
+ * <p>
+ * The default file is a 1-second, 96 kHz, 16-bit stereo test file, every frame being coded with an order 8 linear
+ * predictor and mid/side stereo.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlacFileBenchmark {
+
+	private static final int FRAME_COUNT = 1 << 16;
+
+	@Param("src/test/resources/test_96000.flac")
+	public String path;
+
+	private FlacFile file;
+
+	/**
+	 * @throws AudioFileException if the FLAC file cannot be opened
+	 * @since 0.2.1
+	 */
+	@Setup
+	public void setUp() throws AudioFileException {
+
+		file = new FlacFile(Path.of(path));
+		file.open();
+	}
+
+	/**
+	 * @throws AudioFileException if the FLAC file cannot be closed
+	 * @since 0.2.1
+	 */
+	@TearDown
+	public void tearDown() throws AudioFileException {
+		file.close();
+	}
+
+	/**
+	 * @return number of decoded frames
+	 * @throws AudioFileException if an error occurred while decoding the FLAC file
+	 * @since 0.2.1
+	 */
+	@Benchmark
+	@OperationsPerInvocation(FRAME_COUNT)
+	public int readChunk() throws AudioFileException {
+
+		var frameCount = 0;
+
+		while (frameCount < FRAME_COUNT) {
+
+			var chunk = file.readChunk();
+
+			if (chunk == null) {
+
+				file.close();
+				file.open();
+
+			} else {
+
+				frameCount += chunk[0].length;
+			}
+		}
+
+		return frameCount;
+	}
+}
@@ -114,4 +114,12 @@ public class CircularFloatArray {
 			writeIndex = (writeIndex + writeLength) % length;
 		}
 	}
+
+	/**
+	 * @return length of this circular array
+	 * @since 0.2.1
+	 */
+	public int length() {
+		return length;
+	}
 }
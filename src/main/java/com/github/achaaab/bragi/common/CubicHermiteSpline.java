@@ -1,7 +1,5 @@
 package com.github.achaaab.bragi.common;
 
-import static java.lang.Math.round;
-
 /**
  * @author Jonathan Guéhenneux
  * @since 0.1.7
@@ -19,9 +17,17 @@ public class CubicHermiteSpline implements Interpolator {
 	@Override
 	public float[] interpolate(float[] sourceSamples, float sourceSampleRate, float targetSampleRate) {
 
-		var sourceSampleCount = sourceSamples.length;
-		var targetSampleCount = round(sourceSampleCount * targetSampleRate / sourceSampleRate);
+		var targetSampleCount = interpolatedLength(sourceSamples.length, sourceSampleRate, targetSampleRate);
 		var targetSamples = new float[targetSampleCount];
+		interpolate(sourceSamples, targetSamples);
+		return targetSamples;
+	}
+
+	@Override
+	public void interpolate(float[] sourceSamples, float[] targetSamples) {
+
+		var sourceSampleCount = sourceSamples.length;
+		var targetSampleCount = targetSamples.length;
 
 		var indexRatio = (float) (sourceSampleCount - 1) / targetSampleCount;
 
@@ -62,7 +68,5 @@ public class CubicHermiteSpline implements Interpolator {
 				}
 			}
 		}
-
-		return targetSamples;
 	}
 }
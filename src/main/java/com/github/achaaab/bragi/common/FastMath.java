@@ -0,0 +1,121 @@
+package com.github.achaaab.bragi.common;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+import static java.lang.Math.fma;
+import static java.lang.Math.log;
+import static java.lang.Math.pow;
+
+/**
+ * Fast exponentials for per-sample modulation: 1V/oct frequency controls, filter tuning and decibel gains.
+ * <p>
+ * {@code 2^x} is computed as {@code 2^n * 2^(j / 64) * e^r} where {@code 2^(j / 64)} is read from a table of
+ * {@value #TABLE_SIZE} entries and {@code e^r}, with {@code |r| <= ln(2) / 128}, is approximated by a polynomial of
+ * degree 3. The relative error is below {@link #MAXIMAL_RELATIVE_ERROR}, far below the precision of a float sample.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class FastMath {
+
+	/**
+	 * Bound of the relative error of {@link #exp2(double)}, {@link #exp(double)} and {@link #dbToGain(double)},
+	 * given by the Taylor remainder {@code (ln(2) / 128)^4 / 24 ≈ 3.6E-11} plus rounding errors.
+	 */
+	public static final double MAXIMAL_RELATIVE_ERROR = 1.0e-9;
+
+	private static final int TABLE_SIZE = 64;
+	private static final int TABLE_BITS = 6;
+	private static final double LN_2 = log(2.0);
+	private static final double LOG2_E = 1.0 / LN_2;
+	private static final double LOG2_10_OVER_20 = log(10.0) / LN_2 / 20.0;
+
+	private static final double SHIFTER = 0x1.8p52;
+	private static final long SHIFTER_BITS = doubleToRawLongBits(SHIFTER);
+
+	private static final double MINIMAL_EXPONENT = -1022.0;
+	private static final double MAXIMAL_EXPONENT = 1024.0;
+
+	// from this exponent, x * 64 rounds to 1024 * 64 and 2^n would overflow the binary exponent
+	private static final double MAXIMAL_TABLE_EXPONENT = MAXIMAL_EXPONENT - 0.5 / TABLE_SIZE;
+
+	private static final double[] TABLE = new double[TABLE_SIZE];
+
+	static {
+
+		for (var index = 0; index < TABLE_SIZE; index++) {
+			TABLE[index] = pow(2.0, (double) index / TABLE_SIZE);
+		}
+	}
+
+	/**
+	 * @param x exponent
+	 * @return {@code 2^x}, 0 below -1022 and positive infinity from 1024
+	 * @since 0.2.1
+	 */
+	public static double exp2(double x) {
+
+		double result;
+
+		if (x >= MINIMAL_EXPONENT && x < MAXIMAL_TABLE_EXPONENT) {
+
+			// rounds x * 64 to the nearest integer n, without a floating-point to integer conversion
+			var scaled = x * TABLE_SIZE;
+			var shifted = scaled + SHIFTER;
+			var n = doubleToRawLongBits(shifted) - SHIFTER_BITS;
+			var r = (scaled - (shifted - SHIFTER)) * (LN_2 / TABLE_SIZE);
+			var polynomial = fma(r, fma(r, fma(r, 1.0 / 6.0, 0.5), 1.0), 1.0);
+
+			// adds n / 64 to the binary exponent of 2^(j / 64), which is in [1, 2[
+			var bits = doubleToRawLongBits(TABLE[(int) (n & TABLE_SIZE - 1)]) + (n >> TABLE_BITS << 52);
+			result = longBitsToDouble(bits) * polynomial;
+
+		} else if (x >= MAXIMAL_TABLE_EXPONENT && x < MAXIMAL_EXPONENT) {
+
+			// 2^x is finite but 2^n is not: 2^(x - 1) is doubled instead
+			result = 2.0 * exp2(x - 1.0);
+
+		} else if (x < MINIMAL_EXPONENT) {
+
+			result = 0.0;
+
+		} else if (x >= MAXIMAL_EXPONENT) {
+
+			result = Double.POSITIVE_INFINITY;
+
+		} else {
+
+			// NaN
+			result = x;
+		}
+
+		return result;
+	}
+
+	/**
+	 * @param x exponent
+	 * @return {@code e^x}
+	 * @since 0.2.1
+	 */
+	public static double exp(double x) {
+		return exp2(x * LOG2_E);
+	}
+
+	/**
+	 * @param decibels gain in decibels (dB)
+	 * @return amplitude factor, {@code 10^(decibels / 20)}
+	 * @since 0.2.1
+	 */
+	public static double dbToGain(double decibels) {
+		return exp2(decibels * LOG2_10_OVER_20);
+	}
+
+	/**
+	 * private constructor to prevent instantiation of this utility class
+	 *
+	 * @since 0.2.1
+	 */
+	private FastMath() {
+
+	}
+}
@@ -1,5 +1,7 @@
 package com.github.achaaab.bragi.common;
 
+import static java.lang.Math.round;
+
 /**
  * @author Jonathan Guéhenneux
  * @since 0.1.7
@@ -16,4 +18,26 @@ public interface Interpolator {
 	 * @since 0.2.0
 	 */
 	float[] interpolate(float[] samples, float sourceSampleRate, float targetSampleRate);
+
+	/**
+	 * Interpolates samples into a given array. The sampling rate ratio is given by the lengths of both arrays. This
+	 * allows callers to reuse the target array.
+	 *
+	 * @param sourceSamples samples to interpolate
+	 * @param targetSamples array in which to write interpolated samples
+	 * @see #interpolatedLength(int, float, float)
+	 * @since 0.2.1
+	 */
+	void interpolate(float[] sourceSamples, float[] targetSamples);
+
+	/**
+	 * @param sampleCount number of samples to interpolate
+	 * @param sourceSampleRate source sampling rate
+	 * @param targetSampleRate target sampling rate
+	 * @return number of interpolated samples
+	 * @since 0.2.1
+	 */
+	default int interpolatedLength(int sampleCount, float sourceSampleRate, float targetSampleRate) {
+		return round(sampleCount * targetSampleRate / sourceSampleRate);
+	}
 }
@@ -1,5 +1,7 @@
 package com.github.achaaab.bragi.common;
 
+import com.github.achaaab.bragi.dsp.Kernels;
+
 import static java.lang.Math.fma;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -88,4 +90,28 @@ public class Normalizer {
 		var input = fma(inverseAmplification, output - output0, input0);
 		return min(maximalInput, max(minimalInput, input));
 	}
+
+	/**
+	 * Normalizes a block of samples with {@link Kernels#INSTANCE}.
+	 *
+	 * @param inputs samples to normalize
+	 * @param outputs block in which to write the normalized samples, may be {@code inputs}, its length is the number
+	 * of samples to normalize
+	 * @since 0.2.1
+	 */
+	public void normalize(float[] inputs, float[] outputs) {
+		Kernels.INSTANCE.normalize(inputs, input0, amplification, output0, minimalOutput, maximalOutput, outputs);
+	}
+
+	/**
+	 * Inverse normalizes a block of samples with {@link Kernels#INSTANCE}.
+	 *
+	 * @param outputs samples to inverse normalize
+	 * @param inputs block in which to write the inverse normalized samples, may be {@code outputs}, its length is the
+	 * number of samples to inverse normalize
+	 * @since 0.2.1
+	 */
+	public void inverseNormalize(float[] outputs, float[] inputs) {
+		Kernels.INSTANCE.normalize(outputs, output0, inverseAmplification, input0, minimalInput, maximalInput, inputs);
+	}
 }
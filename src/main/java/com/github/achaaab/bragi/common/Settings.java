@@ -46,6 +46,42 @@ public record Settings(
 				DEFAULT_MAXIMAL_VOLTAGE);
 	}
 
+	/**
+	 * Larger chunks lower the per-chunk overhead, smaller chunks lower the latency.
+	 *
+	 * @param chunkSize number of samples per chunk
+	 * @return copy of these settings with the given chunk size
+	 * @since 0.2.1
+	 */
+	public Settings withChunkSize(int chunkSize) {
+
+		return new Settings(
+				channelCount,
+				sampleSize,
+				frameRate,
+				(float) chunkSize / frameRate,
+				minimalVoltage,
+				maximalVoltage);
+	}
+
+	/**
+	 * The chunk size is kept, so the chunk duration changes with the frame rate.
+	 *
+	 * @param frameRate number of frames per second
+	 * @return copy of these settings with the given frame rate
+	 * @since 0.2.1
+	 */
+	public Settings withFrameRate(int frameRate) {
+
+		return new Settings(
+				channelCount,
+				sampleSize,
+				frameRate,
+				(float) chunkSize() / frameRate,
+				minimalVoltage,
+				maximalVoltage);
+	}
+
 	/**
 	 * @return number of samples per chunk
 	 * @since 0.2.0
@@ -0,0 +1,25 @@
+package com.github.achaaab.bragi.core;
+
+import java.util.function.Supplier;
+
+/**
+ * A view factory that never creates views, for synthesizers running without a graphical environment.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class HeadlessViewFactory implements ViewFactory {
+
+	/**
+	 * @see #HEADLESS
+	 * @since 0.2.1
+	 */
+	HeadlessViewFactory() {
+
+	}
+
+	@Override
+	public <V> V create(Supplier<V> viewSupplier) {
+		return null;
+	}
+}
@@ -1,21 +1,30 @@
 package com.github.achaaab.bragi.core;
 
 import com.github.achaaab.bragi.common.AbstractNamedEntity;
+import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.configuration.Configuration;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.core.module.ModuleMetricsSnapshot;
+import com.github.achaaab.bragi.core.scheduler.GraphScheduler;
+import com.github.achaaab.bragi.core.scheduler.Scheduler;
+import com.github.achaaab.bragi.core.scheduler.ThreadScheduler;
 import com.github.achaaab.bragi.gui.SynthesizerView;
+import com.github.achaaab.bragi.gui.ViewCreationException;
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
+import javax.management.JMException;
+import javax.management.ObjectName;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import static java.lang.Thread.currentThread;
-import static javax.swing.SwingUtilities.invokeAndWait;
+import static java.awt.GraphicsEnvironment.isHeadless;
+import static java.lang.System.identityHashCode;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static javax.management.ObjectName.quote;
 import static javax.swing.SwingUtilities.invokeLater;
+import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * @author Jonathan Guéhenneux
@@ -23,40 +32,115 @@ import static javax.swing.SwingUtilities.invokeLater;
  */
 public class Synthesizer extends AbstractNamedEntity {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(Synthesizer.class);
+	private static final Logger LOGGER = getLogger(Synthesizer.class);
 
 	private static final String DEFAULT_NAME = "synthesizer";
+	private static final String METRICS_DOMAIN = "com.github.achaaab.bragi";
 
+	private final Settings settings;
 	private final Configuration configuration;
 	private final List<Module> modules;
+	private final Scheduler scheduler;
+	private final ViewFactory viewFactory;
+	private final List<ObjectName> metricsNames;
 
 	private SynthesizerView view;
 
 	/**
-	 * Creates a synthesizer.
+	 * Creates a synthesizer running each module in its own thread.
 	 *
 	 * @since 0.2.0
 	 */
 	public Synthesizer() {
+		this(new ThreadScheduler());
+	}
+
+	/**
+	 * Creates a synthesizer whose modules are computed by the given scheduler. The synthesizer is headless if the
+	 * graphical environment is headless.
+	 *
+	 * @param scheduler scheduler computing the modules of the created synthesizer
+	 * @see ThreadScheduler
+	 * @see GraphScheduler
+	 * @since 0.2.1
+	 */
+	public Synthesizer(Scheduler scheduler) {
+		this(scheduler, Settings.INSTANCE);
+	}
+
+	/**
+	 * Creates a synthesizer whose modules are computed by the given scheduler with the given settings. The
+	 * synthesizer is headless if the graphical environment is headless.
+	 *
+	 * @param scheduler scheduler computing the modules of the created synthesizer
+	 * @param settings settings (frame rate, chunk size...) of the created synthesizer and of its modules
+	 * @see Settings#withChunkSize(int)
+	 * @see Settings#withFrameRate(int)
+	 * @since 0.2.1
+	 */
+	public Synthesizer(Scheduler scheduler, Settings settings) {
+		this(scheduler, isHeadless() ? ViewFactory.HEADLESS : ViewFactory.SWING, settings);
+	}
+
+	/**
+	 * Creates a synthesizer whose modules are computed by the given scheduler and whose views are created by the
+	 * given factory.
+	 *
+	 * @param scheduler scheduler computing the modules of the created synthesizer
+	 * @param viewFactory factory creating the views of the synthesizer and of its modules
+	 * @see ViewFactory#SWING
+	 * @see ViewFactory#HEADLESS
+	 * @since 0.2.1
+	 */
+	public Synthesizer(Scheduler scheduler, ViewFactory viewFactory) {
+		this(scheduler, viewFactory, Settings.INSTANCE);
+	}
+
+	/**
+	 * Creates a synthesizer whose modules are computed by the given scheduler with the given settings and whose views
+	 * are created by the given factory. Several synthesizers with different settings can run in the same JVM.
+	 *
+	 * @param scheduler scheduler computing the modules of the created synthesizer
+	 * @param viewFactory factory creating the views of the synthesizer and of its modules
+	 * @param settings settings (frame rate, chunk size...) of the created synthesizer and of its modules
+	 * @since 0.2.1
+	 */
+	public Synthesizer(Scheduler scheduler, ViewFactory viewFactory, Settings settings) {
 
 		super(DEFAULT_NAME);
 
+		this.scheduler = scheduler;
+		this.viewFactory = viewFactory;
+		this.settings = settings;
+
 		configuration = new Configuration(this);
 		modules = new ArrayList<>();
+		metricsNames = new ArrayList<>();
 
 		try {
 
-			invokeAndWait(() -> view = new SynthesizerView(this));
+			view = viewFactory.create(() -> new SynthesizerView(this));
 
-		} catch (InvocationTargetException cause) {
+		} catch (ViewCreationException cause) {
 
 			throw new SynthesizerCreationException(cause);
+		}
+	}
 
-		} catch (InterruptedException interruptedException) {
+	/**
+	 * @return factory creating the views of this synthesizer and of its modules
+	 * @since 0.2.1
+	 */
+	public ViewFactory viewFactory() {
+		return viewFactory;
+	}
 
-			LOGGER.error("interrupted", interruptedException);
-			currentThread().interrupt();
-		}
+	/**
+	 * @return settings of this synthesizer and of its modules
+	 * @since 0.2.1
+	 */
+	public Settings settings() {
+		return settings;
 	}
 
 	/**
@@ -87,9 +171,90 @@ public class Synthesizer extends AbstractNamedEntity {
 		modules.add(module);
 
 		module.setSynthesizer(this);
-		module.start();
+		registerMetrics(module);
+		scheduler.schedule(module);
+
+		if (view != null) {
+			invokeLater(() -> view.display(module));
+		}
+	}
+
+	/**
+	 * Stops the computing of every module of this synthesizer.
+	 *
+	 * @since 0.2.1
+	 */
+	public void stop() {
+
+		scheduler.stop();
+		unregisterMetrics();
+	}
+
+	/**
+	 * Takes a snapshot of the computing metrics of every module of this synthesizer. Sorting the snapshots by
+	 * decreasing {@link ModuleMetricsSnapshot#load()} gives the bottleneck module.
+	 *
+	 * @return metrics snapshots, in the order in which modules were added
+	 * @since 0.2.1
+	 */
+	public List<ModuleMetricsSnapshot> metrics() {
+
+		var snapshots = new ArrayList<ModuleMetricsSnapshot>(modules.size());
+
+		for (var module : modules) {
+			snapshots.add(module.metrics().snapshot());
+		}
+
+		return snapshots;
+	}
+
+	/**
+	 * Registers the metrics of the given module in the platform MBean server, under
+	 * {@code com.github.achaaab.bragi:type=Module,synthesizer=<synthesizer>,name=<module>}. A registration failure is
+	 * logged and does not prevent the module from being added.
+	 *
+	 * @param module module whose metrics to register
+	 * @since 0.2.1
+	 */
+	private void registerMetrics(Module module) {
+
+		try {
+
+			var metricsName = new ObjectName(METRICS_DOMAIN + ":type=Module" +
+					",synthesizer=" + quote(name + "@" + Integer.toHexString(identityHashCode(this))) +
+					",name=" + quote(module.name()));
+
+			getPlatformMBeanServer().registerMBean(module.metrics(), metricsName);
+			metricsNames.add(metricsName);
+
+		} catch (JMException cause) {
+
+			LOGGER.warn("cannot register metrics of module \"" + module.name() + "\"", cause);
+		}
+	}
+
+	/**
+	 * Unregisters the metrics of every module of this synthesizer from the platform MBean server.
+	 *
+	 * @since 0.2.1
+	 */
+	private void unregisterMetrics() {
+
+		var server = getPlatformMBeanServer();
+
+		for (var metricsName : metricsNames) {
+
+			try {
+
+				server.unregisterMBean(metricsName);
+
+			} catch (JMException cause) {
+
+				LOGGER.warn("cannot unregister metrics " + metricsName, cause);
+			}
+		}
 
-		invokeLater(() -> view.display(module));
+		metricsNames.clear();
 	}
 
 	/**
@@ -127,7 +292,7 @@ public class Synthesizer extends AbstractNamedEntity {
 	}
 
 	/**
-	 * @return view of this synthesizer
+	 * @return view of this synthesizer, {@code null} if this synthesizer is headless
 	 * @since 0.2.0
 	 */
 	public SynthesizerView getView() {
@@ -0,0 +1,28 @@
+package com.github.achaaab.bragi.core;
+
+import com.github.achaaab.bragi.gui.SwingViewFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates the views of a synthesizer and of its modules. Views are never created by constructors, so that a patch can
+ * be built and run without a graphical environment.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public interface ViewFactory {
+
+	ViewFactory SWING = new SwingViewFactory();
+	ViewFactory HEADLESS = new HeadlessViewFactory();
+
+	/**
+	 * Creates a view.
+	 *
+	 * @param viewSupplier supplier creating the view
+	 * @param <V> type of view
+	 * @return created view, {@code null} if this factory does not create views
+	 * @since 0.2.1
+	 */
+	<V> V create(Supplier<V> viewSupplier);
+}
@@ -23,11 +23,12 @@ public class Configuration {
 
 	private final Synthesizer synthesizer;
 
-	private final LineConfiguration inputConfiguration;
-	private final LineConfiguration outputConfiguration;
+	private LineConfiguration inputConfiguration;
+	private LineConfiguration outputConfiguration;
 
 	/**
-	 * Creates a new configuration for the given synthesizer.
+	 * Creates a new configuration for the given synthesizer. Line configurations are created on first use, so that a
+	 * synthesizer without any speaker or microphone can run on a machine without audio device.
 	 *
 	 * @param synthesizer synthesizer on which to apply the created configuration
 	 * @since 0.2.0
@@ -36,8 +37,36 @@ public class Configuration {
 
 		this.synthesizer = synthesizer;
 
-		inputConfiguration = new LineConfiguration(Mixer::getTargetLineInfo);
-		outputConfiguration = new LineConfiguration(Mixer::getSourceLineInfo);
+		inputConfiguration = null;
+		outputConfiguration = null;
+	}
+
+	/**
+	 * @return configuration of the input line, created if needed
+	 * @throws ConfigurationException if there is no suitable mixer
+	 * @since 0.2.1
+	 */
+	private synchronized LineConfiguration inputConfiguration() {
+
+		if (inputConfiguration == null) {
+			inputConfiguration = new LineConfiguration(Mixer::getTargetLineInfo);
+		}
+
+		return inputConfiguration;
+	}
+
+	/**
+	 * @return configuration of the output line, created if needed
+	 * @throws ConfigurationException if there is no suitable mixer
+	 * @since 0.2.1
+	 */
+	private synchronized LineConfiguration outputConfiguration() {
+
+		if (outputConfiguration == null) {
+			outputConfiguration = new LineConfiguration(Mixer::getSourceLineInfo);
+		}
+
+		return outputConfiguration;
 	}
 
 	/**
@@ -45,7 +74,7 @@ public class Configuration {
 	 * @since 0.2.0
 	 */
 	public LineConfiguration getInputConfiguration() {
-		return inputConfiguration.copy();
+		return inputConfiguration().copy();
 	}
 
 	/**
@@ -54,7 +83,7 @@ public class Configuration {
 	 */
 	public void setInputConfiguration(LineConfiguration inputConfiguration) {
 
-		this.inputConfiguration.copy(inputConfiguration);
+		inputConfiguration().copy(inputConfiguration);
 
 		synthesizer.configure();
 	}
@@ -64,7 +93,7 @@ public class Configuration {
 	 * @since 0.2.0
 	 */
 	public LineConfiguration getOutputConfiguration() {
-		return outputConfiguration.copy();
+		return outputConfiguration().copy();
 	}
 
 	/**
@@ -73,7 +102,7 @@ public class Configuration {
 	 */
 	public void setOutputConfiguration(LineConfiguration outputConfiguration) {
 
-		this.outputConfiguration.copy(outputConfiguration);
+		outputConfiguration().copy(outputConfiguration);
 
 		synthesizer.configure();
 	}
@@ -84,6 +113,7 @@ public class Configuration {
 	 */
 	public TargetDataLine inputLine() {
 
+		var inputConfiguration = inputConfiguration();
 		var mixer = inputConfiguration.getMixer();
 		var format = inputConfiguration.format();
 
@@ -110,6 +140,7 @@ public class Configuration {
 	 */
 	public SourceDataLine outputLine() {
 
+		var outputConfiguration = outputConfiguration();
 		var mixer = outputConfiguration.getMixer();
 		var format = outputConfiguration.format();
 
@@ -2,9 +2,14 @@ package com.github.achaaab.bragi.core.connection;
 
 import com.github.achaaab.bragi.common.AbstractNamedEntity;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * A default implementation for inputs.
+ * A default implementation for inputs. Waiting for a connection relies on a {@link ReentrantLock} rather than on the
+ * monitor of the input, so that a module running on a virtual thread does not pin its carrier thread while waiting.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.1
@@ -12,8 +17,13 @@ import com.github.achaaab.bragi.core.module.Module;
 public abstract class AbstractInput extends AbstractNamedEntity implements Input {
 
 	protected final Module module;
+	protected final ReentrantLock connectionLock;
+	protected final Condition connection;
 
-	protected Buffer buffer;
+	protected volatile Buffer buffer;
+	protected OverflowPolicy overflowPolicy;
+	protected Chunk lastChunk;
+	protected ChunkShape lastShape;
 
 	/**
 	 * Create an input, initially not connected.
@@ -28,7 +38,13 @@ public abstract class AbstractInput extends AbstractNamedEntity implements Input
 
 		this.module = module;
 
+		connectionLock = new ReentrantLock();
+		connection = connectionLock.newCondition();
+
 		buffer = null;
+		overflowPolicy = OverflowPolicy.BLOCK;
+		lastChunk = null;
+		lastShape = ChunkShape.AUDIO;
 	}
 
 	@Override
@@ -36,6 +52,21 @@ public abstract class AbstractInput extends AbstractNamedEntity implements Input
 		return module;
 	}
 
+	@Override
+	public OverflowPolicy overflowPolicy() {
+		return overflowPolicy;
+	}
+
+	@Override
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	@Override
+	public ChunkShape shape() {
+		return lastShape;
+	}
+
 	@Override
 	public boolean isConnected() {
 		return buffer != null;
@@ -49,13 +80,39 @@ public abstract class AbstractInput extends AbstractNamedEntity implements Input
 	@Override
 	public void setBuffer(Buffer buffer) {
 
-		synchronized (this) {
+		connectionLock.lock();
+
+		try {
 
 			this.buffer = buffer;
-			notifyAll();
+			connection.signalAll();
+
+		} finally {
+
+			connectionLock.unlock();
 		}
 	}
 
+	/**
+	 * Releases the previously read chunk and holds the given one until the next read.
+	 *
+	 * @param chunk read chunk, may be {@code null}
+	 * @param shape shape of the read chunk
+	 * @return samples of the given chunk, {@code null} if the given chunk is {@code null}
+	 * @since 0.2.1
+	 */
+	protected float[] hold(Chunk chunk, ChunkShape shape) {
+
+		if (lastChunk != null) {
+			lastChunk.release();
+		}
+
+		lastChunk = chunk;
+		lastShape = chunk == null ? ChunkShape.AUDIO : shape;
+
+		return chunk == null ? null : chunk.samples();
+	}
+
 	@Override
 	public void disconnect() {
 		buffer.disconnect();
@@ -2,15 +2,21 @@ package com.github.achaaab.bragi.core.connection;
 
 import com.github.achaaab.bragi.common.AbstractNamedEntity;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 import org.slf4j.Logger;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import static java.lang.System.nanoTime;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * A default implementation for outputs.
+ * A default implementation for outputs. Buffers are stored in a copy-on-write list, so that writing a chunk does not
+ * need to lock them. Waiting for a connection relies on a {@link ReentrantLock} rather than on a monitor, so that a
+ * module running on a virtual thread does not pin its carrier thread while waiting.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.3
@@ -21,6 +27,8 @@ public abstract class AbstractOutput extends AbstractNamedEntity implements Outp
 
 	protected final Module module;
 	protected final List<Buffer> buffers;
+	protected final ReentrantLock connectionLock;
+	protected final Condition connection;
 
 	/**
 	 * Create an output, initially not connected.
@@ -35,7 +43,9 @@ public abstract class AbstractOutput extends AbstractNamedEntity implements Outp
 
 		this.module = module;
 
-		buffers = new ArrayList<>();
+		buffers = new CopyOnWriteArrayList<>();
+		connectionLock = new ReentrantLock();
+		connection = connectionLock.newCondition();
 	}
 
 	@Override
@@ -53,27 +63,102 @@ public abstract class AbstractOutput extends AbstractNamedEntity implements Outp
 		return !buffers.isEmpty();
 	}
 
+	@Override
+	public void write(float[] chunk) throws InterruptedException {
+		write(chunk, ChunkShape.AUDIO);
+	}
+
+	@Override
+	public void write(float[] chunk, ChunkShape shape) throws InterruptedException {
+		write(Chunk.wrap(chunk), shape);
+	}
+
+	@Override
+	public void write(Chunk chunk) throws InterruptedException {
+		write(chunk, ChunkShape.AUDIO);
+	}
+
 	@Override
 	public void connect(Input input) {
+		connect(input, Buffer.DEFAULT_CAPACITY);
+	}
+
+	@Override
+	public void connect(Input input, int capacity) {
 
-		var buffer = new Buffer(this, input);
+		var buffer = new Buffer(this, input, capacity, input.overflowPolicy());
 
 		input.setBuffer(buffer);
 
-		synchronized (buffers) {
+		connectionLock.lock();
+
+		try {
 
 			buffers.add(buffer);
-			buffers.notifyAll();
+			connection.signalAll();
+
+		} finally {
+
+			connectionLock.unlock();
 		}
 
 		LOGGER.info(this + " connected to " + input);
 	}
 
+	/**
+	 * Writes the given chunk to every connected buffer. The chunk is retained once per buffer, so that it is recycled
+	 * only when every connected input has read it. A chunk written to no buffer is recycled immediately. Time blocked
+	 * while writing is added to the metrics of the module.
+	 *
+	 * @param chunk chunk to write
+	 * @param shape shape of the chunk
+	 * @throws InterruptedException if interrupted while waiting for available space in a buffer
+	 * @since 0.2.1
+	 */
+	protected void writeBuffers(Chunk chunk, ChunkShape shape) throws InterruptedException {
+
+		// hold the chunk while writing, so that a fast reader cannot recycle it before it is written to every buffer
+		chunk.retain();
+
+		var startTime = nanoTime();
+
+		try {
+
+			for (var buffer : buffers) {
+
+				LOGGER.debug("writing chunk from {} to {}", this, buffer.input());
+				chunk.retain();
+
+				try {
+
+					buffer.write(chunk, shape);
+
+				} catch (InterruptedException | RuntimeException cause) {
+
+					// the buffer did not take the chunk, its reference is released here
+					chunk.release();
+					throw cause;
+				}
+
+				LOGGER.debug("chunk written from {} to {}", this, buffer.input());
+			}
+
+		} finally {
+
+			module.metrics().addWriteTime(nanoTime() - startTime);
+			chunk.release();
+		}
+	}
+
 	@Override
 	public void disconnect(Buffer buffer) {
 
-		synchronized (buffers) {
+		connectionLock.lock();
+
+		try {
 			buffers.remove(buffer);
+		} finally {
+			connectionLock.unlock();
 		}
 	}
 }
@@ -1,18 +1,60 @@
 package com.github.achaaab.bragi.core.connection;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.Runtime.getRuntime;
+import static java.lang.Thread.currentThread;
+import static java.lang.Thread.onSpinWait;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.concurrent.locks.LockSupport.unpark;
 
 /**
+ * Lock-free single-producer single-consumer ring buffer of chunks, between 1 output and 1 input.
+ * The output module is the only writer and the input module is the only reader.
+ * <p>
+ * Chunk slots are allocated once, at creation. When the buffer is empty, the reader spins briefly then parks until
+ * the writer signals it. When the buffer is full, the writer applies the {@link OverflowPolicy} of the buffer: it
+ * waits for the reader, drops the oldest chunk or drops the written chunk. Dropped chunks are released to their
+ * {@link ChunkPool}.
+ * <p>
+ * With {@link OverflowPolicy#DROP_OLDEST}, the writer may consume the oldest chunk concurrently with the reader, so
+ * both sides advance the read index with a compare-and-set.
+ * <p>
+ * Every chunk is stored with its {@link ChunkShape}, the shape of the last read chunk is given by {@link #shape()}.
+ *
  * @author Jonathan Guéhenneux
  * @since 0.0.1
  */
 public class Buffer {
 
+	public static final int DEFAULT_CAPACITY = 1;
+
+	// spinning is useless when the other side cannot run at the same time
+	private static final int SPIN_COUNT = getRuntime().availableProcessors() > 1 ? 128 : 0;
+	private static final long PARK_DURATION = 1_000_000;
+
+	// marks a chunk dropped by the writer while the reader was consuming it
+	private static final Chunk DROPPED = Chunk.wrap(new float[0]);
+
 	private final Output output;
 	private final Input input;
 
-	private final BlockingQueue<float[]> chunks;
+	private final Chunk[] chunks;
+	private final ChunkShape[] shapes;
+	private final int capacity;
+	private final OverflowPolicy overflowPolicy;
+
+	private final AtomicLong readIndex;
+	private final AtomicLong writeIndex;
+
+	private volatile Thread waitingReader;
+	private volatile Thread waitingWriter;
+	private volatile long droppedChunkCount;
+	private volatile int highWaterMark;
+
+	private ChunkShape shape;
 
 	/**
 	 * Create a new empty buffer between specified output and input with a capacity of 1 chunk.
@@ -22,32 +64,174 @@ public class Buffer {
 	 * @since 0.2.0
 	 */
 	public Buffer(Output output, Input input) {
+		this(output, input, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new empty buffer between specified output and input with the given capacity.
+	 *
+	 * @param output output that will write to this buffer
+	 * @param input input that will read from this buffer
+	 * @param capacity maximal number of chunks in the created buffer, strictly positive
+	 * @since 0.2.1
+	 */
+	public Buffer(Output output, Input input, int capacity) {
+		this(output, input, capacity, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Create a new empty buffer between specified output and input with the given capacity and overflow policy.
+	 *
+	 * @param output output that will write to this buffer
+	 * @param input input that will read from this buffer
+	 * @param capacity maximal number of chunks in the created buffer, strictly positive
+	 * @param overflowPolicy what to do when a chunk is written while the created buffer is full
+	 * @since 0.2.1
+	 */
+	public Buffer(Output output, Input input, int capacity, OverflowPolicy overflowPolicy) {
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Buffer capacity must be strictly positive.");
+		}
 
 		this.output = output;
 		this.input = input;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+
+		chunks = new Chunk[capacity];
+		shapes = new ChunkShape[capacity];
+
+		readIndex = new AtomicLong();
+		writeIndex = new AtomicLong();
 
-		chunks = new ArrayBlockingQueue<>(1);
+		waitingReader = null;
+		waitingWriter = null;
+		droppedChunkCount = 0;
+		highWaterMark = 0;
+		shape = ChunkShape.AUDIO;
 	}
 
 	/**
-	 * Write the given chunk in this buffer, waiting if necessary for available space.
+	 * Write the given chunk in this buffer. If this buffer is full, its overflow policy is applied.
 	 *
 	 * @param chunk chunk to write in this buffer
 	 * @throws InterruptedException if interrupted while waiting for available space
+	 * @see OverflowPolicy
 	 * @since 0.2.0
 	 */
-	public void write(float[] chunk) throws InterruptedException {
-		chunks.put(chunk);
+	public void write(Chunk chunk) throws InterruptedException {
+		write(chunk, ChunkShape.AUDIO);
+	}
+
+	/**
+	 * Write the given chunk in this buffer, with its shape. If this buffer is full, its overflow policy is applied.
+	 *
+	 * @param chunk chunk to write in this buffer
+	 * @param shape shape of the chunk
+	 * @throws InterruptedException if interrupted while waiting for available space
+	 * @see OverflowPolicy
+	 * @since 0.2.1
+	 */
+	public void write(Chunk chunk, ChunkShape shape) throws InterruptedException {
+
+		var index = writeIndex.get();
+
+		if (index - readIndex.get() >= capacity) {
+
+			switch (overflowPolicy) {
+
+				case BLOCK -> awaitSpace(index);
+				case DROP_OLDEST -> dropOldest(index);
+
+				case SKIP -> {
+
+					drop(chunk);
+					return;
+				}
+			}
+		}
+
+		publish(index, chunk, shape);
+	}
+
+	/**
+	 * Waits until the reader frees a slot.
+	 *
+	 * @param index write index
+	 * @throws InterruptedException if interrupted while waiting for available space
+	 * @since 0.2.1
+	 */
+	private void awaitSpace(long index) throws InterruptedException {
+
+		var spinCount = 0;
+
+		while (index - readIndex.get() >= capacity) {
+
+			if (spinCount < SPIN_COUNT) {
+
+				spinCount++;
+				onSpinWait();
+
+			} else {
+
+				waitingWriter = currentThread();
+
+				if (index - readIndex.get() >= capacity) {
+					park();
+				}
+
+				waitingWriter = null;
+			}
+		}
+	}
+
+	/**
+	 * Drops the oldest chunk of this full buffer, unless the reader consumes it first.
+	 *
+	 * @param index write index
+	 * @since 0.2.1
+	 */
+	private void dropOldest(long index) {
+
+		var oldestIndex = index - capacity;
+		var oldestChunk = chunks[slot(oldestIndex)];
+
+		if (readIndex.compareAndSet(oldestIndex, oldestIndex + 1)) {
+			drop(oldestChunk);
+		}
+	}
+
+	/**
+	 * Drops a chunk written to this buffer.
+	 *
+	 * @param chunk dropped chunk
+	 * @since 0.2.1
+	 */
+	private void drop(Chunk chunk) {
+
+		// single writer, the increment is not atomic but cannot be lost
+		droppedChunkCount++;
+		chunk.release();
 	}
 
 	/**
 	 * Write the given chunk in this buffer, if there is available space.
 	 *
 	 * @param chunk chunk to try to write in this buffer
+	 * @return whether the chunk was written
 	 * @since 0.2.0
 	 */
-	public void tryWrite(float[] chunk) {
-		chunks.add(chunk);
+	public boolean tryWrite(Chunk chunk) {
+
+		var index = writeIndex.get();
+		var written = index - readIndex.get() < capacity;
+
+		if (written) {
+			publish(index, chunk, ChunkShape.AUDIO);
+		}
+
+		return written;
 	}
 
 	/**
@@ -57,8 +241,50 @@ public class Buffer {
 	 * @throws InterruptedException if interrupted while waiting for an available chunk
 	 * @since 0.2.0
 	 */
-	public float[] read() throws InterruptedException {
-		return chunks.take();
+	public Chunk read() throws InterruptedException {
+
+		Chunk chunk;
+
+		do {
+
+			var index = readIndex.get();
+			awaitChunk(index);
+			chunk = consume(index);
+
+		} while (chunk == DROPPED);
+
+		return chunk;
+	}
+
+	/**
+	 * Waits until the writer publishes a chunk.
+	 *
+	 * @param index read index
+	 * @throws InterruptedException if interrupted while waiting for an available chunk
+	 * @since 0.2.1
+	 */
+	private void awaitChunk(long index) throws InterruptedException {
+
+		var spinCount = 0;
+
+		while (index == writeIndex.get()) {
+
+			if (spinCount < SPIN_COUNT) {
+
+				spinCount++;
+				onSpinWait();
+
+			} else {
+
+				waitingReader = currentThread();
+
+				if (index == writeIndex.get()) {
+					park();
+				}
+
+				waitingReader = null;
+			}
+		}
 	}
 
 	/**
@@ -67,8 +293,176 @@ public class Buffer {
 	 * @return read chunk, if there was an available chunk, {@code null} otherwise
 	 * @since 0.2.0
 	 */
-	public float[] tryRead() {
-		return chunks.poll();
+	public Chunk tryRead() {
+
+		Chunk chunk;
+
+		do {
+
+			var index = readIndex.get();
+
+			if (index == writeIndex.get()) {
+				return null;
+			}
+
+			chunk = consume(index);
+
+		} while (chunk == DROPPED);
+
+		return chunk;
+	}
+
+	/**
+	 * Stores a chunk in its slot, makes it visible to the reader and wakes the reader up if it is parked.
+	 *
+	 * @param index write index
+	 * @param chunk chunk to store
+	 * @param shape shape of the chunk
+	 * @since 0.2.1
+	 */
+	private void publish(long index, Chunk chunk, ChunkShape shape) {
+
+		var slot = slot(index);
+
+		chunks[slot] = chunk;
+		shapes[slot] = shape;
+		writeIndex.set(index + 1);
+
+		var occupancy = (int) (index + 1 - readIndex.get());
+
+		// single writer, the maximum cannot be lost
+		if (occupancy > highWaterMark) {
+			highWaterMark = occupancy;
+		}
+
+		var reader = waitingReader;
+
+		if (reader != null) {
+			unpark(reader);
+		}
+	}
+
+	/**
+	 * Takes a chunk from its slot, frees the slot and wakes the writer up if it is parked.
+	 *
+	 * @param index read index
+	 * @return consumed chunk, {@link #DROPPED} if the writer dropped it meanwhile
+	 * @since 0.2.1
+	 */
+	private Chunk consume(long index) {
+
+		var slot = slot(index);
+		var chunk = chunks[slot];
+		var chunkShape = shapes[slot];
+
+		if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+
+			// the slot is not cleared, the writer may already reuse it
+			if (!readIndex.compareAndSet(index, index + 1)) {
+				return DROPPED;
+			}
+
+		} else {
+
+			chunks[slot] = null;
+			readIndex.set(index + 1);
+		}
+
+		var writer = waitingWriter;
+
+		if (writer != null) {
+			unpark(writer);
+		}
+
+		shape = chunkShape;
+		return chunk;
+	}
+
+	/**
+	 * @param index read or write index
+	 * @return slot corresponding to the given index
+	 * @since 0.2.1
+	 */
+	private int slot(long index) {
+		return (int) (index % capacity);
+	}
+
+	/**
+	 * Parks the current thread until it is signaled by the other side of this buffer. The parking is bounded,
+	 * so that a missed signal only costs a short delay.
+	 *
+	 * @throws InterruptedException if the current thread is interrupted
+	 * @since 0.2.1
+	 */
+	private void park() throws InterruptedException {
+
+		parkNanos(this, PARK_DURATION);
+
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+	}
+
+	/**
+	 * @return shape of the last chunk read from this buffer, only meaningful to the reader
+	 * @since 0.2.1
+	 */
+	public ChunkShape shape() {
+		return shape;
+	}
+
+	/**
+	 * @return maximal number of chunks in this buffer
+	 * @since 0.2.1
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return number of chunks currently in this buffer
+	 * @since 0.2.1
+	 */
+	public int occupancy() {
+		return (int) (writeIndex.get() - readIndex.get());
+	}
+
+	/**
+	 * Returns the highest occupancy observed right after a write. A high-water mark staying below the capacity means
+	 * that the buffer could be shallower, a high-water mark reaching the capacity means that the writer had to wait or
+	 * drop chunks.
+	 *
+	 * @return highest number of chunks in this buffer since its creation or since the last reset
+	 * @see #resetHighWaterMark()
+	 * @since 0.2.1
+	 */
+	public int highWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Resets the high-water mark to the current occupancy.
+	 *
+	 * @since 0.2.1
+	 */
+	public void resetHighWaterMark() {
+		highWaterMark = occupancy();
+	}
+
+	/**
+	 * @return what this buffer does when a chunk is written while it is full
+	 * @since 0.2.1
+	 */
+	public OverflowPolicy overflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * @return number of chunks dropped by the overflow policy of this buffer
+	 * @since 0.2.1
+	 */
+	public long droppedChunkCount() {
+		return droppedChunkCount;
 	}
 
 	/**
@@ -0,0 +1,83 @@
+package com.github.achaaab.bragi.core.connection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Samples written by an output, with their reference count. Outputs retain a chunk once per connected buffer and
+ * inputs release the previously read chunk when reading the next one. A chunk allocated from a {@link ChunkPool}
+ * returns to this pool when its last reference is released, whatever the releasing thread.
+ * <p>
+ * A chunk wrapping samples that were not allocated from a pool (read from a file, primed by a scheduler...) has no
+ * pool, retaining or releasing it has no effect.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class Chunk {
+
+	/**
+	 * Wraps samples that were not allocated from a pool.
+	 *
+	 * @param samples samples to wrap
+	 * @return chunk wrapping the given samples
+	 * @since 0.2.1
+	 */
+	public static Chunk wrap(float[] samples) {
+		return new Chunk(samples, null);
+	}
+
+	private final float[] samples;
+	private final ChunkPool pool;
+	private final AtomicInteger referenceCount;
+
+	// next chunk in the stack of released chunks of the pool
+	Chunk next;
+
+	/**
+	 * Creates an unreferenced chunk.
+	 *
+	 * @param samples samples of the chunk to create
+	 * @param pool pool to which the created chunk returns when released, {@code null} if none
+	 * @since 0.2.1
+	 */
+	Chunk(float[] samples, ChunkPool pool) {
+
+		this.samples = samples;
+		this.pool = pool;
+
+		referenceCount = new AtomicInteger();
+		next = null;
+	}
+
+	/**
+	 * @return samples of this chunk, in volts
+	 * @since 0.2.1
+	 */
+	public float[] samples() {
+		return samples;
+	}
+
+	/**
+	 * Adds a reference to this chunk.
+	 *
+	 * @since 0.2.1
+	 */
+	public void retain() {
+
+		if (pool != null) {
+			referenceCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes a reference to this chunk. When there is no more reference, this chunk returns to its pool.
+	 *
+	 * @since 0.2.1
+	 */
+	public void release() {
+
+		if (pool != null && referenceCount.decrementAndGet() == 0) {
+			pool.recycle(this);
+		}
+	}
+}
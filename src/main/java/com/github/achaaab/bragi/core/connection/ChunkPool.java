@@ -0,0 +1,129 @@
+package com.github.achaaab.bragi.core.connection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pool of chunks, owned by a single thread. Modules allocate their output chunks from the pool of their thread, see
+ * {@link #local()}. A chunk is recycled once every fan-out consumer has released it, so that steady-state computing
+ * does not allocate.
+ * <p>
+ * Reference counts are kept by the chunks themselves, and neither allocating nor recycling takes a lock: the owner
+ * thread allocates from free lists that only it accesses, the releasing threads push recycled chunks on a lock-free
+ * stack, which the owner thread drains when its free list of the requested length is empty.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ChunkPool {
+
+	private static final ThreadLocal<ChunkPool> LOCAL = ThreadLocal.withInitial(ChunkPool::new);
+
+	/**
+	 * @return chunk pool owned by the current thread
+	 * @since 0.2.1
+	 */
+	public static ChunkPool local() {
+		return LOCAL.get();
+	}
+
+	private final List<ArrayDeque<Chunk>> freeChunks;
+	private final AtomicReference<Chunk> releasedChunks;
+
+	/**
+	 * Creates an empty chunk pool. The created pool must only be allocated from by a single thread.
+	 *
+	 * @since 0.2.1
+	 */
+	public ChunkPool() {
+
+		freeChunks = new ArrayList<>();
+		releasedChunks = new AtomicReference<>();
+	}
+
+	/**
+	 * Allocates a chunk of the given length. The content of the returned chunk is undefined, the caller is expected to
+	 * overwrite every sample. The allocated chunk is not referenced until it is written to an output.
+	 *
+	 * @param length length of the chunk to allocate
+	 * @return allocated chunk
+	 * @since 0.2.1
+	 */
+	public Chunk allocate(int length) {
+
+		var free = freeChunks(length);
+
+		if (free.isEmpty()) {
+			reclaim();
+		}
+
+		var chunk = free.poll();
+
+		if (chunk == null) {
+			chunk = new Chunk(new float[length], this);
+		}
+
+		return chunk;
+	}
+
+	/**
+	 * Pushes a released chunk on the stack of released chunks. It may be called by any thread.
+	 *
+	 * @param chunk chunk without reference
+	 * @since 0.2.1
+	 */
+	void recycle(Chunk chunk) {
+
+		Chunk head;
+
+		do {
+
+			head = releasedChunks.get();
+			chunk.next = head;
+
+		} while (!releasedChunks.compareAndSet(head, chunk));
+	}
+
+	/**
+	 * Moves every released chunk to the free lists. Only the owner thread takes chunks from the stack, and it takes
+	 * them all at once, so that the stack is immune to the ABA problem.
+	 *
+	 * @since 0.2.1
+	 */
+	private void reclaim() {
+
+		var chunk = releasedChunks.getAndSet(null);
+
+		while (chunk != null) {
+
+			var next = chunk.next;
+			chunk.next = null;
+			freeChunks(chunk.samples().length).push(chunk);
+			chunk = next;
+		}
+	}
+
+	/**
+	 * @param length chunk length
+	 * @return free chunks of the given length
+	 * @since 0.2.1
+	 */
+	private ArrayDeque<Chunk> freeChunks(int length) {
+
+		while (freeChunks.size() <= length) {
+			freeChunks.add(null);
+		}
+
+		var free = freeChunks.get(length);
+
+		if (free == null) {
+
+			free = new ArrayDeque<>();
+			freeChunks.set(length, free);
+		}
+
+		return free;
+	}
+}
@@ -2,6 +2,7 @@ package com.github.achaaab.bragi.core.connection;
 
 import com.github.achaaab.bragi.common.NamedEntity;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 
 /**
  * input of a module
@@ -30,6 +31,20 @@ public interface Input extends NamedEntity {
 	 */
 	void setBuffer(Buffer buffer);
 
+	/**
+	 * @return what the buffer of this input does when a chunk is written while it is full
+	 * @since 0.2.1
+	 */
+	OverflowPolicy overflowPolicy();
+
+	/**
+	 * Sets the overflow policy of this input. It applies to the buffers created by the next connections.
+	 *
+	 * @param overflowPolicy what the buffer of this input does when a chunk is written while it is full
+	 * @since 0.2.1
+	 */
+	void setOverflowPolicy(OverflowPolicy overflowPolicy);
+
 	/**
 	 * @return whether an output port is connected to this input port
 	 * @since 0.2.0
@@ -37,7 +52,8 @@ public interface Input extends NamedEntity {
 	boolean isConnected();
 
 	/**
-	 * Reads a chunk from this input.
+	 * Reads a chunk from this input. The read chunk is valid until the next read from this input, the previous chunk
+	 * is then released to its {@link ChunkPool}.
 	 *
 	 * @return read chunk, {@code null} if no chunk was read
 	 * @throws InterruptedException if interrupted while waiting for an available chunk
@@ -45,6 +61,12 @@ public interface Input extends NamedEntity {
 	 */
 	float[] read() throws InterruptedException;
 
+	/**
+	 * @return shape of the last read chunk, {@link ChunkShape#AUDIO} if no chunk was read
+	 * @since 0.2.1
+	 */
+	ChunkShape shape();
+
 	/**
 	 * Disconnects this input from the output.
 	 *
@@ -0,0 +1,138 @@
+package com.github.achaaab.bragi.core.connection;
+
+import com.github.achaaab.bragi.core.module.Module;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.Math.floor;
+import static java.lang.Math.max;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * End-to-end latency budget of a patch. A full buffer of capacity {@code n} delays its chunks by {@code n} chunk
+ * periods, so the worst-case latency of a patch is the total capacity of the buffers along its longest path. The budget
+ * is spread evenly over the buffers upstream of a module (typically a speaker): the deeper the buffers, the better
+ * hiccups are absorbed.
+ * <p>
+ * Connections closing a cycle do not lengthen the longest path. Buffers are recreated with their new capacity, so a
+ * budget must be applied before the modules are started.
+ *
+ * @author Jonathan Guéhenneux
+ * @see Buffer#highWaterMark()
+ * @since 0.2.1
+ */
+public class LatencyBudget {
+
+	private static final Logger LOGGER = getLogger(LatencyBudget.class);
+
+	private final double latency;
+
+	/**
+	 * @param latency maximal end-to-end latency in seconds (s)
+	 * @since 0.2.1
+	 */
+	public LatencyBudget(double latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * @return maximal end-to-end latency in seconds (s)
+	 * @since 0.2.1
+	 */
+	public double latency() {
+		return latency;
+	}
+
+	/**
+	 * Sets the capacity of every buffer upstream of the given module, so that the worst-case latency of its longest
+	 * path fits this budget. Every buffer has a capacity of at least 1 chunk, even if the budget is too small.
+	 *
+	 * @param sink module at the end of the paths to budget
+	 * @return worst-case latency of the longest path in seconds (s), after applying this budget
+	 * @throws IllegalStateException if a module upstream of the given module is already started, in which case no buffer
+	 * is changed
+	 * @since 0.2.1
+	 */
+	public double apply(Module sink) {
+
+		var buffers = new LinkedHashSet<Buffer>();
+		var depth = depth(sink, new HashMap<>(), new HashSet<>(), buffers);
+
+		var settings = sink.settings();
+		var chunkDuration = (double) settings.chunkSize() / settings.frameRate();
+		var chunkBudget = (int) floor(latency / chunkDuration);
+		var capacity = depth == 0 ? Buffer.DEFAULT_CAPACITY : max(1, chunkBudget / depth);
+
+		// every module is checked before rewiring, so that a rejected budget leaves the patch untouched
+		for (var buffer : buffers) {
+
+			if (buffer.output().module().isStarted() || buffer.input().module().isStarted()) {
+				throw new IllegalStateException("A latency budget must be applied before starting the modules.");
+			}
+		}
+
+		for (var buffer : buffers) {
+
+			var output = buffer.output();
+			var input = buffer.input();
+
+			buffer.disconnect();
+			output.connect(input, capacity);
+		}
+
+		var worstCaseLatency = depth * capacity * chunkDuration;
+
+		LOGGER.info("latency budget of {} s applied to {}: {} buffers of {} chunks, longest path of {} buffers, " +
+				"worst-case latency of {} s", latency, sink, buffers.size(), capacity, depth, worstCaseLatency);
+
+		return worstCaseLatency;
+	}
+
+	/**
+	 * Computes the number of buffers of the longest path ending at the given module and collects the buffers upstream
+	 * of the given module.
+	 *
+	 * @param module module at the end of the paths
+	 * @param depths already computed depths
+	 * @param visiting modules being visited, used to detect cycles
+	 * @param buffers buffers upstream of the given module
+	 * @return number of buffers of the longest path ending at the given module
+	 * @since 0.2.1
+	 */
+	private static int depth(Module module, Map<Module, Integer> depths, Set<Module> visiting, Set<Buffer> buffers) {
+
+		var depth = depths.get(module);
+
+		if (depth == null) {
+
+			visiting.add(module);
+			depth = 0;
+
+			for (var input : module.inputs()) {
+
+				var buffer = input.getBuffer();
+
+				if (buffer != null) {
+
+					buffers.add(buffer);
+
+					var inputModule = buffer.output().module();
+
+					if (!visiting.contains(inputModule)) {
+						depth = max(depth, depth(inputModule, depths, visiting, buffers) + 1);
+					}
+				}
+			}
+
+			visiting.remove(module);
+			depths.put(module, depth);
+		}
+
+		return depth;
+	}
+}
@@ -2,6 +2,7 @@ package com.github.achaaab.bragi.core.connection;
 
 import com.github.achaaab.bragi.common.NamedEntity;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 
 import java.util.List;
 
@@ -31,6 +32,17 @@ public interface Output extends NamedEntity {
 	 */
 	void connect(Input input);
 
+	/**
+	 * Connect this output to the specified input through a buffer of the given capacity. A deeper buffer absorbs
+	 * longer hiccups of the connected modules, at the cost of up to 1 chunk of latency per additional slot.
+	 *
+	 * @param input input to connect to
+	 * @param capacity maximal number of chunks in the buffer between this output and the input, strictly positive
+	 * @see LatencyBudget
+	 * @since 0.2.1
+	 */
+	void connect(Input input, int capacity);
+
 	/**
 	 * @return whether this output is connected to at least 1 input
 	 * @since 0.2.0
@@ -41,12 +53,44 @@ public interface Output extends NamedEntity {
 	 * Write a chunk to this output. Depending on the implementation, it is not guaranteed that the chunk will be
 	 * written.
 	 *
-	 * @param chunk chunk to write
+	 * @param chunk chunk to write, not allocated from a {@link ChunkPool}
 	 * @throws InterruptedException if interrupted while writing chunk
 	 * @since 0.2.0
 	 */
 	void write(float[] chunk) throws InterruptedException;
 
+	/**
+	 * Write a chunk to this output, with its shape. Depending on the implementation, it is not guaranteed that the
+	 * chunk will be written.
+	 *
+	 * @param chunk chunk to write, not allocated from a {@link ChunkPool}
+	 * @param shape shape of the chunk, {@link ChunkShape#AUDIO} if the samples may vary arbitrarily
+	 * @throws InterruptedException if interrupted while writing chunk
+	 * @since 0.2.1
+	 */
+	void write(float[] chunk, ChunkShape shape) throws InterruptedException;
+
+	/**
+	 * Write a chunk to this output. Depending on the implementation, it is not guaranteed that the chunk will be
+	 * written.
+	 *
+	 * @param chunk chunk to write
+	 * @throws InterruptedException if interrupted while writing chunk
+	 * @since 0.2.1
+	 */
+	void write(Chunk chunk) throws InterruptedException;
+
+	/**
+	 * Write a chunk to this output, with its shape. Depending on the implementation, it is not guaranteed that the
+	 * chunk will be written.
+	 *
+	 * @param chunk chunk to write
+	 * @param shape shape of the chunk, {@link ChunkShape#AUDIO} if the samples may vary arbitrarily
+	 * @throws InterruptedException if interrupted while writing chunk
+	 * @since 0.2.1
+	 */
+	void write(Chunk chunk, ChunkShape shape) throws InterruptedException;
+
 	/**
 	 * Disconnects this output from the input connected through the given buffer.
 	 *
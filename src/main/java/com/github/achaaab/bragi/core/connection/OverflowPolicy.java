@@ -0,0 +1,28 @@
+package com.github.achaaab.bragi.core.connection;
+
+/**
+ * What a {@link Buffer} does when a chunk is written while it is full. Every input has its own buffer, so a slow
+ * consumer with a non-blocking policy cannot back-pressure the other consumers of the same output.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * The writer waits until the reader frees a slot. No chunk is lost, the writer is slowed down to the pace of the
+	 * reader. This is the policy of the audio path.
+	 */
+	BLOCK,
+
+	/**
+	 * The oldest chunk of the buffer is dropped to make room for the written chunk. The reader always gets the most
+	 * recent chunks. This is the policy of visualization taps.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * The written chunk is dropped. The reader gets the oldest chunks.
+	 */
+	SKIP
+}
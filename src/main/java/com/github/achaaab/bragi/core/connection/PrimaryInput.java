@@ -3,6 +3,7 @@ package com.github.achaaab.bragi.core.connection;
 import com.github.achaaab.bragi.core.module.Module;
 import org.slf4j.Logger;
 
+import static java.lang.System.nanoTime;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -37,12 +38,23 @@ public class PrimaryInput extends AbstractInput {
 	 */
 	public float[] read() throws InterruptedException {
 
-		synchronized (this) {
+		var startTime = nanoTime();
 
-			while (!isConnected()) {
+		if (!isConnected()) {
 
-				LOGGER.debug("waiting for a connection to {}", this);
-				wait();
+			connectionLock.lock();
+
+			try {
+
+				while (!isConnected()) {
+
+					LOGGER.debug("waiting for a connection to {}", this);
+					connection.await();
+				}
+
+			} finally {
+
+				connectionLock.unlock();
 			}
 		}
 
@@ -50,6 +62,8 @@ public class PrimaryInput extends AbstractInput {
 		var chunk = buffer.read();
 		LOGGER.debug("chunk read from {} to {}", buffer.output(), this);
 
-		return chunk;
+		module.metrics().addReadTime(nanoTime() - startTime);
+
+		return hold(chunk, buffer.shape());
 	}
 }
@@ -1,6 +1,7 @@
 package com.github.achaaab.bragi.core.connection;
 
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 import org.slf4j.Logger;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -29,22 +30,26 @@ public class PrimaryOutput extends AbstractOutput {
 	}
 
 	@Override
-	public void write(float[] chunk) throws InterruptedException {
+	public void write(Chunk chunk, ChunkShape shape) throws InterruptedException {
 
-		synchronized (buffers) {
+		if (!isConnected()) {
 
-			while (!isConnected()) {
+			connectionLock.lock();
 
-				LOGGER.debug("waiting for a connection from {}", this);
-				buffers.wait();
-			}
+			try {
+
+				while (!isConnected()) {
 
-			for (var buffer : buffers) {
+					LOGGER.debug("waiting for a connection from {}", this);
+					connection.await();
+				}
 
-				LOGGER.debug("writing chunk from {} to {}", this, buffer.input());
-				buffer.write(chunk);
-				LOGGER.debug("chunk written from {} to {}", this, buffer.input());
+			} finally {
+
+				connectionLock.unlock();
 			}
 		}
+
+		writeBuffers(chunk, shape);
 	}
 }
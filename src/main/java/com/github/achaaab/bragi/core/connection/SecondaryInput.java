@@ -1,8 +1,10 @@
 package com.github.achaaab.bragi.core.connection;
 
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 import org.slf4j.Logger;
 
+import static java.lang.System.nanoTime;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -49,7 +51,7 @@ public class SecondaryInput extends AbstractInput {
 	 */
 	public float[] read() throws InterruptedException {
 
-		float[] chunk;
+		Chunk chunk;
 
 		if (isConnected()) {
 
@@ -71,8 +73,10 @@ public class SecondaryInput extends AbstractInput {
 			} else {
 
 				LOGGER.debug("reading chunk from {} to {}", buffer.output(), this);
+				var startTime = nanoTime();
 				chunk = buffer.read();
-				LOGGER.debug("read chunk from " + this);
+				module.metrics().addReadTime(nanoTime() - startTime);
+				LOGGER.debug("chunk read from {} to {}", buffer.output(), this);
 			}
 
 		} else {
@@ -80,6 +84,6 @@ public class SecondaryInput extends AbstractInput {
 			chunk = null;
 		}
 
-		return chunk;
+		return hold(chunk, chunk == null ? ChunkShape.AUDIO : buffer.shape());
 	}
 }
@@ -1,9 +1,7 @@
 package com.github.achaaab.bragi.core.connection;
 
 import com.github.achaaab.bragi.core.module.Module;
-import org.slf4j.Logger;
-
-import static org.slf4j.LoggerFactory.getLogger;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 
 /**
  * A secondary output write chunks only when connected to at least 1 input.
@@ -15,8 +13,6 @@ import static org.slf4j.LoggerFactory.getLogger;
  */
 public class SecondaryOutput extends AbstractOutput {
 
-	private static final Logger LOGGER = getLogger(SecondaryOutput.class);
-
 	/**
 	 * Create a secondary output, initially not connected.
 	 *
@@ -29,19 +25,8 @@ public class SecondaryOutput extends AbstractOutput {
 	}
 
 	@Override
-	public void write(float[] chunk) throws InterruptedException {
-
-		synchronized (buffers) {
-
-			if (isConnected()) {
-
-				for (var buffer : buffers) {
+	public void write(Chunk chunk, ChunkShape shape) throws InterruptedException {
 
-					LOGGER.debug("writing chunk from {} to {}", this, buffer.input());
-					buffer.write(chunk);
-					LOGGER.debug("chunk written from {} to {}", this, buffer.input());
-				}
-			}
-		}
+		writeBuffers(chunk, shape);
 	}
 }
@@ -1,18 +1,24 @@
 package com.github.achaaab.bragi.core.module;
 
 import com.github.achaaab.bragi.common.AbstractNamedEntity;
+import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.Synthesizer;
+import com.github.achaaab.bragi.core.ViewFactory;
+import com.github.achaaab.bragi.core.connection.ChunkPool;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.connection.PrimaryInput;
 import com.github.achaaab.bragi.core.connection.PrimaryOutput;
 import com.github.achaaab.bragi.core.connection.SecondaryInput;
 import com.github.achaaab.bragi.core.connection.SecondaryOutput;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.Processor;
 import org.slf4j.Logger;
 
 import java.awt.Component;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 import static java.lang.Math.round;
 import static java.lang.System.nanoTime;
@@ -33,13 +39,17 @@ public abstract class Module extends AbstractNamedEntity implements Runnable {
 
 	protected final List<Input> inputs;
 	protected final List<Output> outputs;
+	protected final ModuleMetrics metrics;
 
 	protected Synthesizer synthesizer;
-	protected boolean started;
+	protected volatile boolean started;
 	protected double computingFrameRate;
 
 	protected Component view;
 
+	private float[][] inputChunks;
+	private ChunkShape[] inputShapes;
+
 	/**
 	 * @param name name of the module
 	 * @since 0.2.0
@@ -50,10 +60,14 @@ public abstract class Module extends AbstractNamedEntity implements Runnable {
 
 		inputs = new ArrayList<>();
 		outputs = new ArrayList<>();
+		metrics = new ModuleMetrics(this);
 
 		synthesizer = null;
 		started = false;
+		view = null;
 		computingFrameRate = 0.0;
+
+		inputChunks = null;
 	}
 
 	/**
@@ -67,13 +81,57 @@ public abstract class Module extends AbstractNamedEntity implements Runnable {
 	}
 
 	/**
-	 * @return view of this module
+	 * Returns the settings of the synthesizer containing this module. Settings depending values (chunk size, frame
+	 * rate...) must be read when computing or when configuring, not when constructing, because a module is bound to
+	 * its synthesizer after its construction.
+	 *
+	 * @return settings of the synthesizer containing this module, default settings if this module is not bound to a
+	 * synthesizer
+	 * @see Synthesizer#settings()
+	 * @since 0.2.1
+	 */
+	public Settings settings() {
+		return synthesizer == null ? Settings.INSTANCE : synthesizer.settings();
+	}
+
+	/**
+	 * Returns the view of this module. The view is created on first call, by the view factory of the synthesizer
+	 * containing this module.
+	 *
+	 * @return view of this module, {@code null} if this module has no view or if it is running headless
+	 * @see ViewFactory
 	 * @since 0.2.0
 	 */
 	public Component view() {
+
+		if (view == null) {
+
+			var viewFactory = synthesizer == null ? ViewFactory.SWING : synthesizer.viewFactory();
+			view = viewFactory.create(this::createView);
+		}
+
 		return view;
 	}
 
+	/**
+	 * Creates the view of this module. This is never called by the module constructor, it is called by a
+	 * {@link ViewFactory} when the view is needed.
+	 *
+	 * @return created view, {@code null} if this module has no view
+	 * @since 0.2.1
+	 */
+	protected Component createView() {
+		return null;
+	}
+
+	/**
+	 * @return computing metrics of this module
+	 * @since 0.2.1
+	 */
+	public ModuleMetrics metrics() {
+		return metrics;
+	}
+
 	/**
 	 * @return inputs of this module
 	 * @since 0.2.0
@@ -313,25 +371,74 @@ public abstract class Module extends AbstractNamedEntity implements Runnable {
 	}
 
 	/**
-	 * Starts the module in a new thread.
+	 * Starts the module in a new platform thread.
 	 *
 	 * @since 0.2.0
 	 */
 	public void start() {
+		start(Thread.ofPlatform().factory());
+	}
+
+	/**
+	 * Starts the module in a new thread created by the given factory. The thread is named after the module.
+	 *
+	 * @param threadFactory factory creating the thread running this module, platform or virtual
+	 * @return started thread, to interrupt after {@link #shutdown()} if it may be waiting for a chunk
+	 * @since 0.2.1
+	 */
+	public Thread start(ThreadFactory threadFactory) {
 
 		started = true;
 		configure();
-		new Thread(this, name).start();
+
+		var thread = threadFactory.newThread(this);
+		thread.setName(name);
+		thread.start();
 
 		LOGGER.info("module \"" + name + "\" started");
+
+		return thread;
 	}
 
 	/**
-	 * Stops the module.
+	 * Starts the module without creating a thread. Its computing is driven by a scheduler calling
+	 * {@link #computeChunk()}.
+	 *
+	 * @since 0.2.1
+	 */
+	public void startScheduled() {
+
+		started = true;
+		configure();
+
+		LOGGER.info("module \"" + name + "\" started (scheduled)");
+	}
+
+	/**
+	 * @return whether this module is started
+	 * @since 0.2.1
+	 */
+	public boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 * Stops the module. Subclasses may give another meaning to this method (a player rewinds for example), schedulers
+	 * must call {@link #shutdown()}.
 	 *
 	 * @since 0.2.0
 	 */
 	public void stop() {
+		shutdown();
+	}
+
+	/**
+	 * Ends the computing of this module: the computing loop of its thread, if any, exits after the current chunk.
+	 * A thread waiting for a chunk or for available space does not see it until it is interrupted.
+	 *
+	 * @since 0.2.1
+	 */
+	public final void shutdown() {
 		started = false;
 	}
 
@@ -352,20 +459,25 @@ public abstract class Module extends AbstractNamedEntity implements Runnable {
 				if (computingFrameRate > 0.0) {
 
 					var startTime = nanoTime();
-					var computedFrameCount = compute();
+					var computedFrameCount = computeChunk();
 
 					waitComputeTime(startTime, computedFrameCount);
 
 				} else {
 
-					compute();
+					computeChunk();
 				}
 
 			} catch (InterruptedException cause) {
 
-				throw new ModuleExecutionException(cause);
+				// an interruption after shutdown is the way to stop a module waiting for a chunk
+				if (started) {
+					throw new ModuleExecutionException(cause);
+				}
 			}
 		}
+
+		LOGGER.info("module \"" + name + "\" stopped");
 	}
 
 	/**
@@ -393,6 +505,14 @@ public abstract class Module extends AbstractNamedEntity implements Runnable {
 		}
 	}
 
+	/**
+	 * @return number of frames to compute per second, {@code 0.0} for maximal speed computing
+	 * @since 0.2.1
+	 */
+	public double getComputingFrameRate() {
+		return computingFrameRate;
+	}
+
 	/**
 	 * @param computingSampleRate number of frames to compute per second, {@code 0.0} for maximal speed computing
 	 * @since 0.2.0
@@ -401,6 +521,109 @@ public abstract class Module extends AbstractNamedEntity implements Runnable {
 		this.computingFrameRate = computingSampleRate;
 	}
 
+	/**
+	 * Computes 1 chunk on the calling thread. This is the entry point used by the module own thread as well as by
+	 * schedulers. Computing is measured in the metrics of this module.
+	 *
+	 * @return number of computed frames
+	 * @throws InterruptedException if computing was interrupted
+	 * @see #compute()
+	 * @see #metrics()
+	 * @since 0.2.1
+	 */
+	public int computeChunk() throws InterruptedException {
+
+		metrics.startChunk();
+		var computedFrameCount = compute();
+		metrics.endChunk(computedFrameCount);
+
+		return computedFrameCount;
+	}
+
+	/**
+	 * Reads a chunk from every input of this module, in the order of the inputs. The shapes of the read chunks are
+	 * given by {@link #inputShapes()}.
+	 *
+	 * @return read chunks, the returned array is reused by the next call
+	 * @throws InterruptedException if interrupted while waiting for a chunk
+	 * @since 0.2.1
+	 */
+	protected float[][] readInputs() throws InterruptedException {
+
+		var inputCount = inputs.size();
+
+		if (inputChunks == null || inputChunks.length != inputCount) {
+
+			inputChunks = new float[inputCount][];
+			inputShapes = new ChunkShape[inputCount];
+		}
+
+		for (var inputIndex = 0; inputIndex < inputCount; inputIndex++) {
+
+			var input = inputs.get(inputIndex);
+			inputChunks[inputIndex] = input.read();
+			inputShapes[inputIndex] = input.shape();
+		}
+
+		return inputChunks;
+	}
+
+	/**
+	 * @return shapes of the chunks read by the last call to {@link #readInputs()}, the returned array is reused by the
+	 * next call
+	 * @since 0.2.1
+	 */
+	protected ChunkShape[] inputShapes() {
+		return inputShapes;
+	}
+
+	/**
+	 * Computes 1 chunk with the given processor. The number of computed samples is the length of the chunk read from
+	 * the main input.
+	 *
+	 * @param processor processor to use
+	 * @return number of computed frames
+	 * @throws InterruptedException if computing was interrupted
+	 * @see #compute(Processor, int)
+	 * @since 0.2.1
+	 */
+	protected int compute(Processor processor) throws InterruptedException {
+
+		var inputChunks = readInputs();
+		return process(processor, inputChunks, inputChunks[0].length);
+	}
+
+	/**
+	 * Computes 1 chunk with the given processor: reads a chunk from every input of this module, processes them and
+	 * writes the processed chunk to the main output.
+	 *
+	 * @param processor processor to use
+	 * @param sampleCount number of samples to compute
+	 * @return number of computed frames
+	 * @throws InterruptedException if computing was interrupted
+	 * @since 0.2.1
+	 */
+	protected int compute(Processor processor, int sampleCount) throws InterruptedException {
+		return process(processor, readInputs(), sampleCount);
+	}
+
+	/**
+	 * @param processor processor to use
+	 * @param inputChunks read input chunks
+	 * @param sampleCount number of samples to compute
+	 * @return number of computed frames
+	 * @throws InterruptedException if interrupted while writing the processed chunk
+	 * @since 0.2.1
+	 */
+	private int process(Processor processor, float[][] inputChunks, int sampleCount) throws InterruptedException {
+
+		var outputChunk = ChunkPool.local().allocate(sampleCount);
+		var outputShape = processor.process(inputChunks, inputShapes, outputChunk.samples());
+		output().write(outputChunk, outputShape);
+
+		return sampleCount;
+	}
+
 	/**
 	 * Typically, modules computing is done in 4 optional steps :
 	 * <ol start="0">
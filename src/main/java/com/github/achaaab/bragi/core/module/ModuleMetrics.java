@@ -0,0 +1,233 @@
+package com.github.achaaab.bragi.core.module;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+
+/**
+ * Computing metrics of a module: number of computed chunks and frames, compute time histogram, time blocked while
+ * reading inputs or writing outputs and underruns. Recording is allocation-free so that it can stay enabled in live
+ * patches. Metrics are recorded by the thread computing the module and can be read from any thread, through
+ * {@link #snapshot()} or JMX.
+ * <p>
+ * The compute time of a chunk excludes the time blocked on inputs and outputs. The histogram has 1 bucket per power of
+ * 2 nanoseconds: bucket {@code i} counts the chunks computed in {@code [2^i, 2^(i+1))} nanoseconds.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ModuleMetrics implements ModuleMetricsMXBean {
+
+	public static final int BUCKET_COUNT = 40;
+
+	private final Module module;
+	private final AtomicLongArray computeTimeHistogram;
+	private final AtomicLong chunkCount;
+	private final AtomicLong frameCount;
+	private final AtomicLong computeTime;
+	private final AtomicLong maximalComputeTime;
+	private final AtomicLong readTime;
+	private final AtomicLong writeTime;
+	private final AtomicLong underrunCount;
+
+	private long chunkStartTime;
+	private long chunkBlockedTime;
+
+	/**
+	 * Creates empty metrics.
+	 *
+	 * @param module measured module
+	 * @since 0.2.1
+	 */
+	public ModuleMetrics(Module module) {
+
+		this.module = module;
+
+		computeTimeHistogram = new AtomicLongArray(BUCKET_COUNT);
+		chunkCount = new AtomicLong();
+		frameCount = new AtomicLong();
+		computeTime = new AtomicLong();
+		maximalComputeTime = new AtomicLong();
+		readTime = new AtomicLong();
+		writeTime = new AtomicLong();
+		underrunCount = new AtomicLong();
+
+		chunkStartTime = 0;
+		chunkBlockedTime = 0;
+	}
+
+	/**
+	 * Marks the beginning of a chunk computing.
+	 *
+	 * @since 0.2.1
+	 */
+	public void startChunk() {
+
+		chunkBlockedTime = 0;
+		chunkStartTime = nanoTime();
+	}
+
+	/**
+	 * Marks the end of a chunk computing started with {@link #startChunk()}.
+	 *
+	 * @param computedFrameCount number of computed frames
+	 * @since 0.2.1
+	 */
+	public void endChunk(int computedFrameCount) {
+
+		var chunkComputeTime = max(0, nanoTime() - chunkStartTime - chunkBlockedTime);
+
+		chunkCount.incrementAndGet();
+		frameCount.addAndGet(computedFrameCount);
+		computeTime.addAndGet(chunkComputeTime);
+		maximalComputeTime.accumulateAndGet(chunkComputeTime, Math::max);
+		computeTimeHistogram.incrementAndGet(bucketIndex(chunkComputeTime));
+	}
+
+	/**
+	 * Adds time blocked while reading an input.
+	 *
+	 * @param time time blocked in nanoseconds (ns)
+	 * @since 0.2.1
+	 */
+	public void addReadTime(long time) {
+
+		chunkBlockedTime += time;
+		readTime.addAndGet(time);
+	}
+
+	/**
+	 * Adds time blocked while writing an output.
+	 *
+	 * @param time time blocked in nanoseconds (ns)
+	 * @since 0.2.1
+	 */
+	public void addWriteTime(long time) {
+
+		chunkBlockedTime += time;
+		writeTime.addAndGet(time);
+	}
+
+	/**
+	 * Counts an underrun: the module could not provide samples in time to a real-time device.
+	 *
+	 * @since 0.2.1
+	 */
+	public void addUnderrun() {
+		underrunCount.incrementAndGet();
+	}
+
+	/**
+	 * @return consistent enough copy of these metrics, exact once the module is stopped
+	 * @since 0.2.1
+	 */
+	public ModuleMetricsSnapshot snapshot() {
+
+		var histogram = new long[BUCKET_COUNT];
+
+		for (var bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+			histogram[bucketIndex] = computeTimeHistogram.get(bucketIndex);
+		}
+
+		return new ModuleMetricsSnapshot(
+				module.name(),
+				module.settings().frameRate(),
+				chunkCount.get(),
+				frameCount.get(),
+				computeTime.get(),
+				maximalComputeTime.get(),
+				readTime.get(),
+				writeTime.get(),
+				underrunCount.get(),
+				histogram);
+	}
+
+	@Override
+	public void reset() {
+
+		for (var bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+			computeTimeHistogram.set(bucketIndex, 0);
+		}
+
+		chunkCount.set(0);
+		frameCount.set(0);
+		computeTime.set(0);
+		maximalComputeTime.set(0);
+		readTime.set(0);
+		writeTime.set(0);
+		underrunCount.set(0);
+	}
+
+	@Override
+	public String getModuleName() {
+		return module.name();
+	}
+
+	@Override
+	public long getChunkCount() {
+		return chunkCount.get();
+	}
+
+	@Override
+	public long getFrameCount() {
+		return frameCount.get();
+	}
+
+	@Override
+	public long getComputeTime() {
+		return computeTime.get();
+	}
+
+	@Override
+	public long getMaximalComputeTime() {
+		return maximalComputeTime.get();
+	}
+
+	@Override
+	public double getMeanComputeTime() {
+		return snapshot().meanComputeTime();
+	}
+
+	@Override
+	public long getComputeTimePercentile99() {
+		return snapshot().computeTimePercentile(0.99);
+	}
+
+	@Override
+	public long getReadTime() {
+		return readTime.get();
+	}
+
+	@Override
+	public long getWriteTime() {
+		return writeTime.get();
+	}
+
+	@Override
+	public long getUnderrunCount() {
+		return underrunCount.get();
+	}
+
+	@Override
+	public double getLoad() {
+		return snapshot().load();
+	}
+
+	@Override
+	public long[] getComputeTimeHistogram() {
+		return snapshot().computeTimeHistogram();
+	}
+
+	/**
+	 * @param time compute time in nanoseconds (ns)
+	 * @return index of the histogram bucket containing the given time
+	 * @since 0.2.1
+	 */
+	private static int bucketIndex(long time) {
+		return min(BUCKET_COUNT - 1, 63 - numberOfLeadingZeros(max(1, time)));
+	}
+}
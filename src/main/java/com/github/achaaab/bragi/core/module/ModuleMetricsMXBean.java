@@ -0,0 +1,90 @@
+package com.github.achaaab.bragi.core.module;
+
+/**
+ * Management interface of {@link ModuleMetrics}. Times are in nanoseconds (ns).
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public interface ModuleMetricsMXBean {
+
+	/**
+	 * @return name of the measured module
+	 * @since 0.2.1
+	 */
+	String getModuleName();
+
+	/**
+	 * @return number of computed chunks
+	 * @since 0.2.1
+	 */
+	long getChunkCount();
+
+	/**
+	 * @return number of computed frames
+	 * @since 0.2.1
+	 */
+	long getFrameCount();
+
+	/**
+	 * @return total compute time, excluding time blocked on inputs and outputs
+	 * @since 0.2.1
+	 */
+	long getComputeTime();
+
+	/**
+	 * @return longest chunk compute time
+	 * @since 0.2.1
+	 */
+	long getMaximalComputeTime();
+
+	/**
+	 * @return mean chunk compute time
+	 * @since 0.2.1
+	 */
+	double getMeanComputeTime();
+
+	/**
+	 * @return upper bound of the 99th percentile of chunk compute time
+	 * @since 0.2.1
+	 */
+	long getComputeTimePercentile99();
+
+	/**
+	 * @return total time blocked while reading inputs
+	 * @since 0.2.1
+	 */
+	long getReadTime();
+
+	/**
+	 * @return total time blocked while writing outputs
+	 * @since 0.2.1
+	 */
+	long getWriteTime();
+
+	/**
+	 * @return number of underruns
+	 * @since 0.2.1
+	 */
+	long getUnderrunCount();
+
+	/**
+	 * @return compute time divided by the duration of the computed frames, a module with a load greater than 1 cannot
+	 * run in real time
+	 * @since 0.2.1
+	 */
+	double getLoad();
+
+	/**
+	 * @return number of chunks per compute time bucket, bucket {@code i} is {@code [2^i, 2^(i+1))} nanoseconds
+	 * @since 0.2.1
+	 */
+	long[] getComputeTimeHistogram();
+
+	/**
+	 * Resets every metric to 0.
+	 *
+	 * @since 0.2.1
+	 */
+	void reset();
+}
@@ -0,0 +1,94 @@
+package com.github.achaaab.bragi.core.module;
+
+/**
+ * Copy of the metrics of a module at a given time. Times are in nanoseconds (ns).
+ *
+ * @param moduleName name of the measured module
+ * @param frameRate frame rate of the measured module
+ * @param chunkCount number of computed chunks
+ * @param frameCount number of computed frames
+ * @param computeTime total compute time, excluding time blocked on inputs and outputs
+ * @param maximalComputeTime longest chunk compute time
+ * @param readTime total time blocked while reading inputs
+ * @param writeTime total time blocked while writing outputs
+ * @param underrunCount number of underruns
+ * @param computeTimeHistogram number of chunks per compute time bucket, bucket {@code i} is {@code [2^i, 2^(i+1))}
+ * nanoseconds
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public record ModuleMetricsSnapshot(
+
+		String moduleName,
+		int frameRate,
+		long chunkCount,
+		long frameCount,
+		long computeTime,
+		long maximalComputeTime,
+		long readTime,
+		long writeTime,
+		long underrunCount,
+		long[] computeTimeHistogram) {
+
+	/**
+	 * @return mean chunk compute time, {@code 0.0} if no chunk was computed
+	 * @since 0.2.1
+	 */
+	public double meanComputeTime() {
+		return chunkCount == 0 ? 0.0 : (double) computeTime / chunkCount;
+	}
+
+	/**
+	 * Returns an upper bound of the given compute time percentile. Its precision is limited by the histogram
+	 * resolution (a factor 2).
+	 *
+	 * @param percentile percentile in {@code [0, 1]}
+	 * @return upper bound of the chunk compute time percentile, {@code 0} if no chunk was computed
+	 * @since 0.2.1
+	 */
+	public long computeTimePercentile(double percentile) {
+
+		var total = 0L;
+
+		for (var count : computeTimeHistogram) {
+			total += count;
+		}
+
+		var threshold = percentile * total;
+		var cumulatedCount = 0L;
+		var percentileTime = 0L;
+
+		for (var bucketIndex = 0; bucketIndex < computeTimeHistogram.length && total > 0; bucketIndex++) {
+
+			cumulatedCount += computeTimeHistogram[bucketIndex];
+			percentileTime = 1L << bucketIndex + 1;
+
+			if (cumulatedCount >= threshold) {
+				break;
+			}
+		}
+
+		return percentileTime;
+	}
+
+	/**
+	 * @return compute time divided by the duration of the computed frames, a module with a load greater than 1 cannot
+	 * run in real time, {@code 0.0} if no frame was computed
+	 * @since 0.2.1
+	 */
+	public double load() {
+
+		var computedDuration = 1_000_000_000.0 * frameCount / frameRate;
+		return frameCount == 0 ? 0.0 : computeTime / computedDuration;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format(
+				"%s: %d chunks, load %.3f, compute time mean %.0f ns p99 %d ns max %d ns, " +
+						"blocked read %d ns write %d ns, %d underruns",
+				moduleName, chunkCount, load(), meanComputeTime(), computeTimePercentile(0.99), maximalComputeTime,
+				readTime, writeTime, underrunCount);
+	}
+}
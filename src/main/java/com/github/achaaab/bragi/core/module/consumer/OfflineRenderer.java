@@ -0,0 +1,211 @@
+package com.github.achaaab.bragi.core.module.consumer;
+
+import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.core.module.ModuleExecutionException;
+import com.github.achaaab.bragi.core.scheduler.ModuleGraph;
+import com.github.achaaab.bragi.file.AudioFileException;
+import com.github.achaaab.bragi.file.WavFileWriter;
+import org.slf4j.Logger;
+
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static java.lang.Math.min;
+import static java.lang.Math.round;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * An {@link OfflineRenderer} reads samples from its inputs (1 input per channel) and streams them to a WAV file.
+ * It can be driven by any scheduler, or it can drive its own patch as fast as the CPU allows with
+ * {@link #render(double)}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class OfflineRenderer extends Module {
+
+	private static final Logger LOGGER = getLogger(OfflineRenderer.class);
+
+	public static final String DEFAULT_NAME = "offline_renderer";
+
+	private final Path path;
+
+	private WavFileWriter writer;
+
+	private long renderedFrameCount;
+	private long frameLimit;
+
+	/**
+	 * Creates an offline renderer with default name.
+	 *
+	 * @param path path of the WAV file to write
+	 * @see #DEFAULT_NAME
+	 * @since 0.2.1
+	 */
+	public OfflineRenderer(Path path) {
+		this(DEFAULT_NAME, path);
+	}
+
+	/**
+	 * @param name name of the offline renderer to create
+	 * @param path path of the WAV file to write
+	 * @since 0.2.1
+	 */
+	public OfflineRenderer(String name, Path path) {
+
+		super(name);
+
+		this.path = path;
+
+		addPrimaryInput(name + "_input_" + inputs.size());
+
+		var channelCount = Settings.INSTANCE.channelCount();
+
+		while (inputs.size() < channelCount) {
+			addSecondaryInput(name + "_input_" + inputs.size());
+		}
+
+		writer = null;
+		renderedFrameCount = 0;
+		frameLimit = Long.MAX_VALUE;
+	}
+
+	@Override
+	protected int compute() throws InterruptedException {
+
+		var chunk = readInputs();
+		var frameCount = (int) min(chunk[0].length, frameLimit - renderedFrameCount);
+
+		try {
+
+			if (writer == null) {
+
+				var settings = settings();
+				var sampleSize = settings.sampleSize() * 8;
+
+				writer = new WavFileWriter(path, inputs.size(), settings.frameRate(), sampleSize);
+			}
+
+			if (!writer.isOpen()) {
+				writer.open();
+			}
+
+			writer.writeChunk(chunk, frameCount);
+
+		} catch (AudioFileException cause) {
+
+			throw new ModuleExecutionException(cause);
+		}
+
+		renderedFrameCount += frameCount;
+
+		return frameCount;
+	}
+
+	/**
+	 * Renders the given duration of audio as fast as possible, on the calling thread. Every module connected to this
+	 * renderer, directly or not, is computed. They must not be started nor computed by another scheduler. They are shut
+	 * down and the WAV file is closed when the rendering ends, even if it fails, so that the WAV header is complete.
+	 *
+	 * @param duration duration to render in seconds (s)
+	 * @return achieved real-time factor, that is rendered duration divided by rendering duration
+	 * @throws ModuleExecutionException if interrupted or if an error occurred while writing the WAV file
+	 * @since 0.2.1
+	 */
+	public double render(double duration) {
+
+		var modules = new LinkedHashSet<Module>();
+		addChain(this, modules);
+
+		var graph = new ModuleGraph();
+
+		for (var module : modules) {
+
+			module.startScheduled();
+			graph.add(module);
+		}
+
+		frameLimit = renderedFrameCount + round(duration * settings().frameRate());
+
+		var startTime = nanoTime();
+
+		try {
+
+			graph.update();
+
+			while (renderedFrameCount < frameLimit) {
+				graph.compute();
+			}
+
+		} catch (InterruptedException cause) {
+
+			currentThread().interrupt();
+			throw new ModuleExecutionException(cause);
+
+		} finally {
+
+			modules.forEach(Module::shutdown);
+			close();
+		}
+
+		var renderingDuration = (nanoTime() - startTime) / 1_000_000_000.0;
+		var realTimeFactor = duration / renderingDuration;
+
+		LOGGER.info("{} s rendered in {} s, real-time factor: {}", duration, renderingDuration, realTimeFactor);
+
+		return realTimeFactor;
+	}
+
+	/**
+	 * Closes the WAV file, completing its header.
+	 *
+	 * @throws ModuleExecutionException if an error occurred while closing the WAV file
+	 * @since 0.2.1
+	 */
+	public void close() {
+
+		try {
+
+			if (writer != null && writer.isOpen()) {
+				writer.close();
+			}
+
+		} catch (AudioFileException cause) {
+
+			throw new ModuleExecutionException(cause);
+		}
+	}
+
+	/**
+	 * @return number of frames written to the WAV file
+	 * @since 0.2.1
+	 */
+	public long renderedFrameCount() {
+		return renderedFrameCount;
+	}
+
+	/**
+	 * Adds the given module and recursively all its input modules and output modules.
+	 *
+	 * @param module module to add
+	 * @param modules modules already added
+	 * @since 0.2.1
+	 */
+	private static void addChain(Module module, Set<Module> modules) {
+
+		if (modules.add(module)) {
+
+			for (var inputModule : module.inputModules()) {
+				addChain(inputModule, modules);
+			}
+
+			for (var outputModule : module.outputModules()) {
+				addChain(outputModule, modules);
+			}
+		}
+	}
+}
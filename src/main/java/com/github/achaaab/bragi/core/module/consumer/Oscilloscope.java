@@ -1,20 +1,22 @@
 package com.github.achaaab.bragi.core.module.consumer;
 
 import com.github.achaaab.bragi.common.CircularFloatArray;
-import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import com.github.achaaab.bragi.gui.module.OscilloscopeView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
-import static javax.swing.SwingUtilities.invokeAndWait;
+import static com.github.achaaab.bragi.core.connection.OverflowPolicy.DROP_OLDEST;
+import static java.util.Arrays.fill;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * oscilloscope
+ * oscilloscope, keeping the last second of samples
+ * <p>
+ * The sample buffer is sized from the frame rate of the synthesizer when the oscilloscope is configured, so it is
+ * only available once the oscilloscope is started.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.9
@@ -26,7 +28,9 @@ public class Oscilloscope extends Module {
 	public static final String DEFAULT_NAME = "oscilloscope";
 
 	private final Input input;
-	private final CircularFloatArray buffer;
+	private final Object bufferLock;
+
+	private CircularFloatArray buffer;
 
 	/**
 	 * Creates an oscilloscope with default name.
@@ -48,22 +52,37 @@ public class Oscilloscope extends Module {
 
 		input = addPrimaryInput(name + "_input");
 
-		var oscilloscopeSampleCount = Settings.INSTANCE.frameRate();
-		buffer = new CircularFloatArray(oscilloscopeSampleCount);
+		// a visualization tap must never back-pressure the audio path
+		input.setOverflowPolicy(DROP_OLDEST);
+
+		bufferLock = new Object();
+		buffer = null;
+	}
+
+	@Override
+	public void configure() {
+
+		var oscilloscopeSampleCount = settings().frameRate();
 
-		try {
-			invokeAndWait(() -> view = new OscilloscopeView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
+		synchronized (bufferLock) {
+
+			if (buffer == null || buffer.length() != oscilloscopeSampleCount) {
+				buffer = new CircularFloatArray(oscilloscopeSampleCount);
+			}
 		}
 	}
 
+	@Override
+	protected Component createView() {
+		return new OscilloscopeView(this);
+	}
+
 	@Override
 	protected int compute() throws InterruptedException {
 
 		var samples = input.read();
 
-		synchronized (buffer) {
+		synchronized (bufferLock) {
 			buffer.write(samples);
 		}
 
@@ -71,15 +90,20 @@ public class Oscilloscope extends Module {
 	}
 
 	/**
-	 * Fills the given {@code array} with samples to display.
+	 * Fills the given {@code array} with samples to display, with silence if this oscilloscope is not configured yet.
 	 *
 	 * @param readArray array where to store read samples
 	 * @since 0.2.0
 	 */
 	public void read(float[] readArray) {
 
-		synchronized (buffer) {
-			buffer.readLast(readArray);
+		synchronized (bufferLock) {
+
+			if (buffer == null) {
+				fill(readArray, 0.0f);
+			} else {
+				buffer.readLast(readArray);
+			}
 		}
 	}
 }
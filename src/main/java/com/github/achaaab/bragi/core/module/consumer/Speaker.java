@@ -5,18 +5,23 @@ import com.github.achaaab.bragi.common.Normalizer;
 import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.module.Module;
 import com.github.achaaab.bragi.core.module.ModuleCreationException;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 import org.slf4j.Logger;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.SourceDataLine;
 
 import static com.github.achaaab.bragi.common.Interpolator.CUBIC_HERMITE_SPLINE;
+import static java.lang.Math.min;
 import static java.lang.Math.round;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.fill;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * A {@link Speaker} reads samples from its inputs (1 input per channel), convert them to {@link AudioFormat}
- * and writes them to a {@link SourceDataLine}.
+ * and writes them to a {@link SourceDataLine}. When every channel is silent, silence is written without converting
+ * samples.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.9
@@ -57,12 +62,15 @@ public class Speaker extends Module {
 			Settings.INSTANCE.minimalVoltage(), Settings.INSTANCE.maximalVoltage(),
 			FOUR_BYTES_MIN_VALUE, FOUR_BYTES_MAX_VALUE);
 
-	private final int sourceSampleRate;
+	private int sourceSampleRate;
 
 	private SourceDataLine line;
 	private SourceDataLine newLine;
 
 	private byte[] data;
+	private float[][] samples;
+	private float[][] interpolatedSamples;
+	private float[][] normalizedSamples;
 
 	/**
 	 * Creates a speaker with default name.
@@ -90,16 +98,18 @@ public class Speaker extends Module {
 			addSecondaryInput(name + "_input_" + inputs.size());
 		}
 
-		sourceSampleRate = Settings.INSTANCE.frameRate();
-
 		line = null;
 		newLine = null;
 		data = null;
+		samples = null;
+		interpolatedSamples = null;
 	}
 
 	@Override
 	public void configure() {
 
+		sourceSampleRate = settings().frameRate();
+
 		var outputLine = synthesizer.configuration().outputLine();
 
 		if (outputLine != line) {
@@ -131,7 +141,7 @@ public class Speaker extends Module {
 		var format = line.getFormat();
 
 		var frameRate = format.getSampleRate();
-		var chunkDuration = Settings.INSTANCE.chunkDuration();
+		var chunkDuration = settings().chunkDuration();
 		var frameCount = round(frameRate * chunkDuration);
 		var frameSize = format.getFrameSize();
 		var dataLength = frameCount * frameSize;
@@ -148,6 +158,8 @@ public class Speaker extends Module {
 	private void checkLineBufferHealth() {
 
 		if (line.available() == line.getBufferSize()) {
+
+			metrics.addUnderrun();
 			LOGGER.warn("Speaker line is not written fast enough: some discontinuities in the audio may be heard.");
 		}
 	}
@@ -165,35 +177,131 @@ public class Speaker extends Module {
 
 		checkLineBufferHealth();
 
-		var samples = new float[channelCount][];
+		if (samples == null || samples.length != channelCount) {
+
+			samples = new float[channelCount][];
+			interpolatedSamples = new float[channelCount][];
+		}
+
+		var silent = true;
 
 		for (var channelIndex = 0; channelIndex < inputs.size(); channelIndex++) {
 
-			var channelSamples = inputs.get(channelIndex).read();
+			var input = inputs.get(channelIndex);
+			var channelSamples = input.read();
 
 			if (channelIndex < channelCount) {
 
-				samples[channelIndex] = sampleRate == sourceSampleRate ?
-						channelSamples :
-						INTERPOLATOR.interpolate(channelSamples, sourceSampleRate, sampleRate);
+				samples[channelIndex] = channelSamples;
+				silent &= channelSamples == null || input.shape() == ChunkShape.SILENT;
 			}
 		}
 
-		var byteCount = mix(samples);
+		int frameCount;
+		int byteCount;
+
+		if (silent) {
+
+			frameCount = sampleRate == sourceSampleRate ?
+					samples[0].length :
+					INTERPOLATOR.interpolatedLength(samples[0].length, sourceSampleRate, sampleRate);
+
+			byteCount = mixSilence(frameCount, format);
+
+		} else {
+
+			if (sampleRate != sourceSampleRate) {
+
+				var interpolatedChannelCount = min(inputs.size(), channelCount);
+
+				for (var channelIndex = 0; channelIndex < interpolatedChannelCount; channelIndex++) {
+					samples[channelIndex] = interpolate(channelIndex, samples[channelIndex], sampleRate);
+				}
+			}
+
+			frameCount = samples[0].length;
+			byteCount = mix(samples, format);
+		}
 
 		line.write(data, 0, byteCount);
 
-		return samples[0].length;
+		return frameCount;
+	}
+
+	/**
+	 * Interpolates the samples of a channel into a reused array.
+	 *
+	 * @param channelIndex index of the channel
+	 * @param channelSamples samples to interpolate, may be {@code null}
+	 * @param sampleRate sample rate of the line
+	 * @return interpolated samples, {@code null} if the given samples are {@code null}
+	 * @since 0.2.1
+	 */
+	private float[] interpolate(int channelIndex, float[] channelSamples, float sampleRate) {
+
+		if (channelSamples == null) {
+			return null;
+		}
+
+		var length = INTERPOLATOR.interpolatedLength(channelSamples.length, sourceSampleRate, sampleRate);
+		var channelInterpolatedSamples = interpolatedSamples[channelIndex];
+
+		if (channelInterpolatedSamples == null || channelInterpolatedSamples.length != length) {
+
+			channelInterpolatedSamples = new float[length];
+			interpolatedSamples[channelIndex] = channelInterpolatedSamples;
+		}
+
+		INTERPOLATOR.interpolate(channelSamples, channelInterpolatedSamples);
+		return channelInterpolatedSamples;
 	}
 
 	/**
+	 * Converts silence to the given audio format, into the data array of this speaker. Only the first frame is
+	 * converted, it is then copied.
+	 *
+	 * @param frameCount number of silent frames
+	 * @param format audio format of the line
+	 * @return number of data bytes
+	 * @since 0.2.1
+	 */
+	private int mixSilence(int frameCount, AudioFormat format) {
+
+		var channelCount = format.getChannels();
+		var frameSize = channelCount * format.getSampleSizeInBits() / 8;
+		var byteCount = frameCount * frameSize;
+
+		if (data == null || data.length < byteCount) {
+			data = new byte[byteCount];
+		}
+
+		// the silent frame is packed directly, so that the normalized samples array keeps the size of audio chunks
+		var sampleSize = format.getSampleSizeInBits() / 8;
+		var silentSample = round(normalizer(sampleSize).normalize(0.0f));
+		var dataIndex = 0;
+
+		for (var channelIndex = 0; channelIndex < channelCount; channelIndex++) {
+			dataIndex = pack(silentSample, sampleSize, dataIndex);
+		}
+
+		for (var copiedByteCount = frameSize; copiedByteCount < byteCount; copiedByteCount *= 2) {
+			arraycopy(data, 0, data, copiedByteCount, min(copiedByteCount, byteCount - copiedByteCount));
+		}
+
+		return byteCount;
+	}
+
+	/**
+	 * Converts samples to the given audio format, into the data array of this speaker. Each channel is normalized as a
+	 * block, with {@link Normalizer#normalize(float[], float[])}, before being packed into bytes.
+	 *
 	 * @param samples samples to mix
+	 * @param format audio format of the line
 	 * @return number of data bytes
 	 * @since 0.2.0
 	 */
-	private int mix(float[][] samples) {
+	int mix(float[][] samples, AudioFormat format) {
 
-		var format = line.getFormat();
 		var sampleSize = format.getSampleSizeInBits() / 8;
 		var channelCount = format.getChannels();
 		var frameCount = samples[0].length;
@@ -203,65 +311,124 @@ public class Speaker extends Module {
 			data = new byte[byteCount];
 		}
 
+		var normalizedSamples = normalize(samples, normalizer(sampleSize));
 		var dataIndex = 0;
 
+		for (var frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+
+			for (var channelIndex = 0; channelIndex < samples.length; channelIndex++) {
+				dataIndex = pack(round(normalizedSamples[channelIndex][frameIndex]), sampleSize, dataIndex);
+			}
+		}
+
+		return byteCount;
+	}
+
+	/**
+	 * @param sampleSize sample size in bytes
+	 * @return normalizer of the given sample size
+	 * @since 0.2.1
+	 */
+	private static Normalizer normalizer(int sampleSize) {
+
+		return switch (sampleSize) {
+			case 1 -> ONE_BYTE_NORMALIZER;
+			case 2 -> TWO_BYTES_NORMALIZER;
+			case 3 -> THREE_BYTES_NORMALIZER;
+			default -> FOUR_BYTES_NORMALIZER;
+		};
+	}
+
+	/**
+	 * Packs a normalized sample into the data array of this speaker, big-endian.
+	 *
+	 * @param normalizedSample normalized sample to pack
+	 * @param sampleSize sample size in bytes
+	 * @param dataIndex index in the data array at which to pack the sample
+	 * @return index in the data array following the packed sample
+	 * @since 0.2.1
+	 */
+	private int pack(int normalizedSample, int sampleSize, int dataIndex) {
+
 		byte b0;
 		byte b1;
 		byte b2;
 		byte b3;
 
-		for (var frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+		switch (sampleSize) {
 
-			for (var channelSamples : samples) {
-
-				var sample = channelSamples == null ? 0.0f : channelSamples[frameIndex];
-
-				int normalizedSample;
-
-				switch (sampleSize) {
-
-					case 1 -> {
-						normalizedSample = round(ONE_BYTE_NORMALIZER.normalize(sample));
-						b0 = (byte) normalizedSample;
-						data[dataIndex++] = b0;
-					}
-
-					case 2 -> {
-						normalizedSample = round(TWO_BYTES_NORMALIZER.normalize(sample));
-						b0 = (byte) (normalizedSample >> 8);
-						b1 = (byte) normalizedSample;
-						data[dataIndex++] = b0;
-						data[dataIndex++] = b1;
-					}
-
-					case 3 -> {
-						normalizedSample = round(THREE_BYTES_NORMALIZER.normalize(sample));
-						b0 = (byte) (normalizedSample >> 16);
-						b1 = (byte) ((normalizedSample >> 8) & 0xFF);
-						b2 = (byte) (normalizedSample & 0xFF);
-						data[dataIndex++] = b0;
-						data[dataIndex++] = b1;
-						data[dataIndex++] = b2;
-					}
-
-					case 4 -> {
-						normalizedSample = round(FOUR_BYTES_NORMALIZER.normalize(sample));
-						b0 = (byte) (normalizedSample >> 24);
-						b1 = (byte) ((normalizedSample >> 16) & 0xFF);
-						b2 = (byte) ((normalizedSample >> 8) & 0xFF);
-						b3 = (byte) (normalizedSample & 0xFF);
-						data[dataIndex++] = b0;
-						data[dataIndex++] = b1;
-						data[dataIndex++] = b2;
-						data[dataIndex++] = b3;
-					}
-
-					default -> {
-					}
-				}
+			case 1 -> {
+				b0 = (byte) normalizedSample;
+				data[dataIndex++] = b0;
+			}
+
+			case 2 -> {
+				b0 = (byte) (normalizedSample >> 8);
+				b1 = (byte) normalizedSample;
+				data[dataIndex++] = b0;
+				data[dataIndex++] = b1;
+			}
+
+			case 3 -> {
+				b0 = (byte) (normalizedSample >> 16);
+				b1 = (byte) ((normalizedSample >> 8) & 0xFF);
+				b2 = (byte) (normalizedSample & 0xFF);
+				data[dataIndex++] = b0;
+				data[dataIndex++] = b1;
+				data[dataIndex++] = b2;
+			}
+
+			case 4 -> {
+				b0 = (byte) (normalizedSample >> 24);
+				b1 = (byte) ((normalizedSample >> 16) & 0xFF);
+				b2 = (byte) ((normalizedSample >> 8) & 0xFF);
+				b3 = (byte) (normalizedSample & 0xFF);
+				data[dataIndex++] = b0;
+				data[dataIndex++] = b1;
+				data[dataIndex++] = b2;
+				data[dataIndex++] = b3;
+			}
+
+			default -> {
 			}
 		}
 
-		return byteCount;
+		return dataIndex;
+	}
+
+	/**
+	 * Normalizes samples channel by channel, into the normalized samples array of this speaker. A missing channel is
+	 * normalized as silence.
+	 *
+	 * @param samples samples to normalize
+	 * @param normalizer normalizer of the sample size
+	 * @return normalized samples
+	 * @since 0.2.1
+	 */
+	private float[][] normalize(float[][] samples, Normalizer normalizer) {
+
+		var channelCount = samples.length;
+		var frameCount = samples[0].length;
+
+		if (normalizedSamples == null ||
+				normalizedSamples.length != channelCount ||
+				normalizedSamples[0].length != frameCount) {
+
+			normalizedSamples = new float[channelCount][frameCount];
+		}
+
+		for (var channelIndex = 0; channelIndex < channelCount; channelIndex++) {
+
+			var channelSamples = samples[channelIndex];
+			var normalizedChannelSamples = normalizedSamples[channelIndex];
+
+			if (channelSamples == null) {
+				fill(normalizedChannelSamples, normalizer.normalize(0.0f));
+			} else {
+				normalizer.normalize(channelSamples, normalizedChannelSamples);
+			}
+		}
+
+		return normalizedSamples;
 	}
 }
@@ -1,23 +1,23 @@
 package com.github.achaaab.bragi.core.module.consumer;
 
 import com.github.achaaab.bragi.common.CircularFloatArray;
-import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
+import com.github.achaaab.bragi.dsp.ChunkShape;
 import com.github.achaaab.bragi.dsp.fft.FastFourierTransform;
 import com.github.achaaab.bragi.dsp.fft.FourierTransform;
 import com.github.achaaab.bragi.dsp.fft.HammingWindow;
 import com.github.achaaab.bragi.gui.module.SpectrumAnalyzerView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
-import static javax.swing.SwingUtilities.invokeAndWait;
+import static com.github.achaaab.bragi.core.connection.OverflowPolicy.DROP_OLDEST;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * A spectrum analyzer converts a time domain signal to a frequency domain signal.
+ * A spectrum analyzer converts a time domain signal to a frequency domain signal. While its whole analysis window is
+ * silent, the spectrum of silence is computed once and reused.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.5
@@ -31,10 +31,12 @@ public class SpectrumAnalyzer extends Module {
 
 	private final Input input;
 
-	private final FourierTransform fourierTransform;
+	private FourierTransform fourierTransform;
 	private final float[] fourierTransformSamples;
 
 	private final CircularFloatArray buffer;
+	private long silentSampleCount;
+	private float[] silentAverages;
 
 	/**
 	 * Creates a spectrum analyzer with default name.
@@ -56,27 +58,31 @@ public class SpectrumAnalyzer extends Module {
 
 		input = addPrimaryInput(name + "_input");
 
-		fourierTransform = new FastFourierTransform(FOURIER_TRANSFORM_SIZE, Settings.INSTANCE.frameRate());
-		fourierTransform.setWindow(new HammingWindow());
-		fourierTransform.logarithmicAverages(13.75, 12);
+		// a visualization tap must never back-pressure the audio path
+		input.setOverflowPolicy(DROP_OLDEST);
 
+		fourierTransform = null;
 		fourierTransformSamples = new float[FOURIER_TRANSFORM_SIZE];
 		buffer = new CircularFloatArray(FOURIER_TRANSFORM_SIZE);
+		silentSampleCount = 0;
+		silentAverages = null;
+	}
 
-		try {
-			invokeAndWait(() -> view = new SpectrumAnalyzerView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new SpectrumAnalyzerView(this);
 	}
 
 	@Override
 	public int compute() throws InterruptedException {
 
 		var samples = input.read();
+		var silent = input.shape() == ChunkShape.SILENT;
 
 		synchronized (buffer) {
+
 			buffer.write(samples);
+			silentSampleCount = silent ? silentSampleCount + samples.length : 0;
 		}
 
 		return samples.length;
@@ -88,12 +94,49 @@ public class SpectrumAnalyzer extends Module {
 	 */
 	public float[] getAverages() {
 
+		if (fourierTransform == null) {
+			fourierTransform = createFourierTransform();
+		}
+
+		boolean silent;
+
 		synchronized (buffer) {
-			buffer.readLast(fourierTransformSamples);
+
+			silent = silentSampleCount >= FOURIER_TRANSFORM_SIZE;
+
+			if (!silent || silentAverages == null) {
+				buffer.readLast(fourierTransformSamples);
+			}
+		}
+
+		if (silent && silentAverages != null) {
+			return silentAverages;
 		}
 
 		fourierTransform.forward(fourierTransformSamples);
 
-		return fourierTransform.getAverages();
+		var averages = fourierTransform.getAverages();
+
+		if (silent) {
+			silentAverages = averages.clone();
+		}
+
+		return averages;
+	}
+
+	/**
+	 * Creates the Fourier transform at the frame rate of this spectrum analyzer. It is not created by the constructor
+	 * because the frame rate is known once this spectrum analyzer is bound to its synthesizer.
+	 *
+	 * @return created Fourier transform
+	 * @since 0.2.1
+	 */
+	private FourierTransform createFourierTransform() {
+
+		var fourierTransform = new FastFourierTransform(FOURIER_TRANSFORM_SIZE, settings().frameRate());
+		fourierTransform.setWindow(new HammingWindow());
+		fourierTransform.logarithmicAverages(13.75, 12);
+
+		return fourierTransform;
 	}
 }
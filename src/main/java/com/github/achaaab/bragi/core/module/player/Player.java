@@ -2,6 +2,7 @@ package com.github.achaaab.bragi.core.module.player;
 
 import com.github.achaaab.bragi.common.Interpolator;
 import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.connection.ChunkPool;
 import com.github.achaaab.bragi.core.module.Module;
 import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import com.github.achaaab.bragi.core.module.ModuleExecutionException;
@@ -10,14 +11,18 @@ import com.github.achaaab.bragi.file.AudioFileException;
 import com.github.achaaab.bragi.gui.module.PlayerView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.github.achaaab.bragi.common.Interpolator.CUBIC_HERMITE_SPLINE;
-import static javax.swing.SwingUtilities.invokeAndWait;
 import static javax.swing.SwingUtilities.invokeLater;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
+ * A player reads an audio file and writes its channels to its outputs. The file and the playback state are guarded by
+ * a {@link ReentrantLock}, so that a paused player running on a virtual thread does not pin its carrier thread.
+ *
  * @author Jonathan Guéhenneux
  * @since 0.1.0
  */
@@ -28,8 +33,11 @@ public abstract class Player extends Module {
 	private static final Interpolator INTERPOLATOR = CUBIC_HERMITE_SPLINE;
 
 	protected AudioFile file;
-	protected boolean playing;
-	protected PlayerView playerView;
+	protected volatile boolean playing;
+	protected volatile PlayerView playerView;
+
+	private final ReentrantLock lock;
+	private final Condition playingCondition;
 
 	/**
 	 * @param name name of the player to create
@@ -42,6 +50,9 @@ public abstract class Player extends Module {
 
 		this.file = file;
 
+		lock = new ReentrantLock();
+		playingCondition = lock.newCondition();
+
 		addPrimaryOutput(name + "_output_" + outputs.size());
 
 		while (outputs.size() < Settings.INSTANCE.channelCount()) {
@@ -53,22 +64,29 @@ public abstract class Player extends Module {
 		} catch (AudioFileException cause) {
 			throw new ModuleCreationException(cause);
 		}
+	}
 
-		try {
-			invokeAndWait(() -> view = playerView = new PlayerView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+
+		playerView = new PlayerView(this);
+		return playerView;
 	}
 
 	@Override
 	protected int compute() throws InterruptedException {
 
-		synchronized (this) {
+		lock.lock();
+
+		try {
 
 			while (!playing) {
-				wait();
+				playingCondition.await();
 			}
+
+		} finally {
+
+			lock.unlock();
 		}
 
 		return playChunk();
@@ -86,8 +104,12 @@ public abstract class Player extends Module {
 			var frameCount = 0;
 			float[][] chunk;
 
-			synchronized (this) {
+			lock.lock();
+
+			try {
 				chunk = file.readChunk();
+			} finally {
+				lock.unlock();
 			}
 
 			if (chunk == null) {
@@ -100,13 +122,24 @@ public abstract class Player extends Module {
 
 				var channelCount = chunk.length;
 				var sourceSampleRate = file.sampleRate();
-				var targetSampleRate = Settings.INSTANCE.frameRate();
+				var targetSampleRate = settings().frameRate();
 
 				for (var channelIndex = 0; channelIndex < channelCount; channelIndex++) {
 
-					outputs.get(channelIndex).write(sourceSampleRate == targetSampleRate ?
-							chunk[channelIndex] :
-							INTERPOLATOR.interpolate(chunk[channelIndex], sourceSampleRate, targetSampleRate));
+					var channelSamples = chunk[channelIndex];
+
+					if (sourceSampleRate == targetSampleRate) {
+
+						outputs.get(channelIndex).write(channelSamples);
+
+					} else {
+
+						var interpolatedChunk = ChunkPool.local().allocate(INTERPOLATOR.interpolatedLength(
+								channelSamples.length, sourceSampleRate, targetSampleRate));
+
+						INTERPOLATOR.interpolate(channelSamples, interpolatedChunk.samples());
+						outputs.get(channelIndex).write(interpolatedChunk);
+					}
 				}
 			}
 
@@ -123,10 +156,19 @@ public abstract class Player extends Module {
 	 *
 	 * @since 0.2.0
 	 */
-	public synchronized void play() {
+	public void play() {
+
+		lock.lock();
+
+		try {
 
-		playing = true;
-		notifyAll();
+			playing = true;
+			playingCondition.signalAll();
+
+		} finally {
+
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -145,17 +187,20 @@ public abstract class Player extends Module {
 	 */
 	public void stop() {
 
-		synchronized (this) {
+		lock.lock();
 
-			try {
+		try {
 
-				file.close();
-				file.open();
+			file.close();
+			file.open();
 
-			} catch (AudioFileException cause) {
+		} catch (AudioFileException cause) {
 
-				throw new ModuleExecutionException(cause);
-			}
+			throw new ModuleExecutionException(cause);
+
+		} finally {
+
+			lock.unlock();
 		}
 
 		playing = false;
@@ -186,12 +231,16 @@ public abstract class Player extends Module {
 	 * @param time time to seek in seconds
 	 * @since 0.2.0
 	 */
-	public synchronized void seek(double time) {
+	public void seek(double time) {
+
+		lock.lock();
 
 		try {
 			file.seekTime(time);
 		} catch (AudioFileException cause) {
 			throw new ModuleCreationException(cause);
+		} finally {
+			lock.unlock();
 		}
 	}
 
@@ -4,18 +4,15 @@ import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.Processor;
 import com.github.achaaab.bragi.gui.module.AdsrView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
-import static com.github.achaaab.bragi.core.module.producer.AdsrState.DECAY;
 import static com.github.achaaab.bragi.core.module.producer.AdsrState.IDLE;
 import static com.github.achaaab.bragi.core.module.producer.AdsrState.SUSTAIN;
-import static java.lang.Math.max;
-import static java.lang.Math.min;
-import static javax.swing.SwingUtilities.invokeAndWait;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -33,7 +30,7 @@ import static org.slf4j.LoggerFactory.getLogger;
  * @author Jonathan Guéhenneux
  * @since 0.0.6
  */
-public class Adsr extends Module {
+public class Adsr extends Module implements Processor {
 
 	private static final Logger LOGGER = getLogger(Adsr.class);
 
@@ -43,19 +40,15 @@ public class Adsr extends Module {
 
 	private final Input gate;
 	private final Output output;
+	private final Envelope envelope;
 
 	private double attack;
 	private double decay;
 	private double sustain;
 	private double release;
 
-	private double gain;
-	private double sampleLength;
-
 	private float previousGateSample;
 
-	private AdsrState state;
-
 	/**
 	 * Creates an ADSR with default name.
 	 *
@@ -78,75 +71,83 @@ public class Adsr extends Module {
 
 		gate = addPrimaryInput(name + "_gate");
 		output = addPrimaryOutput(name + "_output");
+		envelope = new Envelope();
 
 		attack = 50;
 		decay = 50;
 		sustain = -0.5;
 		release = 10;
 
-		gain = MINIMAL_GAIN;
-		state = IDLE;
 		previousGateSample = 0.0f;
+	}
 
-		try {
-			invokeAndWait(() -> view = new AdsrView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new AdsrView(this);
 	}
 
 	@Override
 	protected int compute() throws InterruptedException {
+		return compute(this, settings().chunkSize());
+	}
+
+	/**
+	 * Generates the envelope. Only the first sample of the gate block is considered.
+	 *
+	 * @param inputChunks gate samples
+	 * @param gains block in which to write the gains in volts
+	 * @since 0.2.1
+	 */
+	@Override
+	public void process(float[][] inputChunks, float[] gains) {
+		process(inputChunks, null, gains);
+	}
+
+	/**
+	 * Generates the envelope. Only the first sample of the gate block is considered. The envelope is described as
+	 * constant while idle or sustained and as a ramp while attacking, decaying or releasing within the block.
+	 *
+	 * @param inputChunks gate samples
+	 * @param inputShapes ignored, the gate is read once per block
+	 * @param gains block in which to write the gains in volts
+	 * @return shape of the envelope block
+	 * @since 0.2.1
+	 */
+	@Override
+	public ChunkShape process(float[][] inputChunks, ChunkShape[] inputShapes, float[] gains) {
 
-		sampleLength = Settings.INSTANCE.frameDuration();
+		var sampleLength = settings().frameDuration();
 
-		var gateSample = gate.read()[0];
-		var sampleCount = Settings.INSTANCE.chunkSize();
-		var gains = new float[sampleCount];
+		var gateSample = inputChunks[0][0];
+		var sampleCount = gains.length;
 
 		if (gateSample > 0 && previousGateSample <= 0) {
-			state = AdsrState.ATTACK;
+			envelope.attack();
 		} else if (gateSample < 0 && previousGateSample >= 0) {
-			state = AdsrState.RELEASE;
+			envelope.release();
 		}
 
 		previousGateSample = gateSample;
 
-		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
-
-			switch (state) {
-				case IDLE -> gain = MINIMAL_GAIN;
-				case SUSTAIN -> gain = sustain;
-				case ATTACK -> step(MAXIMAL_GAIN, attack, DECAY);
-				case DECAY -> step(sustain, decay, SUSTAIN);
-				case RELEASE -> step(MINIMAL_GAIN, release, IDLE);
-			}
+		var initialState = envelope.state();
 
-			gains[sampleIndex] = (float) gain;
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			gains[sampleIndex] = (float) envelope.advance(sampleLength, attack, decay, sustain, release);
 		}
 
-		output.write(gains);
+		var state = envelope.state();
 
-		return sampleCount;
-	}
-
-	/**
-	 * @param targetGain target gain in Volts
-	 * @param speed gain change speed in Volts per second
-	 * @param targetState new state to set when target gain is reached
-	 * @since 0.2.0
-	 */
-	private void step(double targetGain, double speed, AdsrState targetState) {
+		ChunkShape shape;
 
-		if (gain < targetGain) {
-			gain = min(gain + speed * sampleLength, targetGain);
+		if (state != initialState) {
+			shape = ChunkShape.AUDIO;
+		} else if (state == IDLE || state == SUSTAIN) {
+			shape = ChunkShape.CONSTANT;
 		} else {
-			gain = max(gain - speed * sampleLength, targetGain);
+			shape = ChunkShape.RAMP;
 		}
 
-		if (gain == targetGain) {
-			state = targetState;
-		}
+		return shape;
 	}
 
 	/**
@@ -1,15 +1,15 @@
 package com.github.achaaab.bragi.core.module.producer;
 
 import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.connection.ChunkPool;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import com.github.achaaab.bragi.gui.module.DcgView;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
+import static com.github.achaaab.bragi.dsp.ChunkShape.CONSTANT;
 import static java.util.Arrays.fill;
-import static javax.swing.SwingUtilities.invokeAndWait;
 
 /**
  * Direct Current Generator
@@ -54,23 +54,22 @@ public class Dcg extends Module {
 		maximalVoltage = Settings.INSTANCE.maximalVoltage();
 
 		voltage = (minimalVoltage + maximalVoltage) / 2;
+	}
 
-		try {
-			invokeAndWait(() -> view = new DcgView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new DcgView(this);
 	}
 
 	@Override
 	protected int compute() throws InterruptedException {
 
-		var sampleCount = Settings.INSTANCE.chunkSize();
+		var sampleCount = settings().chunkSize();
 
-		var samples = new float[sampleCount];
-		fill(samples, voltage);
+		var chunk = ChunkPool.local().allocate(sampleCount);
+		fill(chunk.samples(), voltage);
 
-		output.write(samples);
+		output.write(chunk, CONSTANT);
 		return sampleCount;
 	}
 
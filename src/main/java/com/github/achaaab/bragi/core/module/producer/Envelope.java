@@ -0,0 +1,150 @@
+package com.github.achaaab.bragi.core.module.producer;
+
+import static com.github.achaaab.bragi.core.module.producer.Adsr.MAXIMAL_GAIN;
+import static com.github.achaaab.bragi.core.module.producer.Adsr.MINIMAL_GAIN;
+import static com.github.achaaab.bragi.core.module.producer.AdsrState.ATTACK;
+import static com.github.achaaab.bragi.core.module.producer.AdsrState.DECAY;
+import static com.github.achaaab.bragi.core.module.producer.AdsrState.IDLE;
+import static com.github.achaaab.bragi.core.module.producer.AdsrState.RELEASE;
+import static com.github.achaaab.bragi.core.module.producer.AdsrState.SUSTAIN;
+import static java.lang.Math.abs;
+
+/**
+ * State and gain of an ADSR envelope, in volts. While attacking, decaying or releasing, the gain moves linearly
+ * toward the target of the current state, at the speed of this state. When the target is reached, the envelope
+ * enters the next state with the remaining duration.
+ *
+ * @author Jonathan Guéhenneux
+ * @see Adsr
+ * @since 0.2.1
+ */
+public class Envelope {
+
+	private AdsrState state;
+	private double gain;
+
+	/**
+	 * Creates an idle envelope.
+	 *
+	 * @since 0.2.1
+	 */
+	public Envelope() {
+		reset();
+	}
+
+	/**
+	 * Makes this envelope idle, at the minimal gain.
+	 *
+	 * @since 0.2.1
+	 */
+	public void reset() {
+
+		state = IDLE;
+		gain = MINIMAL_GAIN;
+	}
+
+	/**
+	 * Starts the attack, from the current gain.
+	 *
+	 * @since 0.2.1
+	 */
+	public void attack() {
+		state = ATTACK;
+	}
+
+	/**
+	 * Starts the release, from the current gain.
+	 *
+	 * @since 0.2.1
+	 */
+	public void release() {
+		state = RELEASE;
+	}
+
+	/**
+	 * Advances this envelope by the given duration.
+	 *
+	 * @param duration duration in seconds (s)
+	 * @param attack attack speed in volts per second, strictly positive
+	 * @param decay decay speed in volts per second, strictly positive
+	 * @param sustain sustain gain in volts
+	 * @param release release speed in volts per second, strictly positive
+	 * @return gain at the end of the duration, in volts
+	 * @since 0.2.1
+	 */
+	public double advance(double duration, double attack, double decay, double sustain, double release) {
+
+		var remainingDuration = duration;
+
+		while (remainingDuration > 0.0) {
+
+			switch (state) {
+
+				case IDLE -> {
+
+					gain = MINIMAL_GAIN;
+					remainingDuration = 0.0;
+				}
+
+				case SUSTAIN -> {
+
+					gain = sustain;
+					remainingDuration = 0.0;
+				}
+
+				case ATTACK -> remainingDuration = step(MAXIMAL_GAIN, attack, DECAY, remainingDuration);
+				case DECAY -> remainingDuration = step(sustain, decay, SUSTAIN, remainingDuration);
+				case RELEASE -> remainingDuration = step(MINIMAL_GAIN, release, IDLE, remainingDuration);
+			}
+		}
+
+		return gain;
+	}
+
+	/**
+	 * Moves the gain toward a target gain.
+	 *
+	 * @param targetGain target gain in volts
+	 * @param speed gain change speed in volts per second
+	 * @param targetState new state to set when target gain is reached
+	 * @param duration available duration in seconds (s)
+	 * @return remaining duration after the target gain is reached, {@code 0.0} if it is not reached
+	 * @since 0.2.1
+	 */
+	private double step(double targetGain, double speed, AdsrState targetState, double duration) {
+
+		var targetDuration = abs(targetGain - gain) / speed;
+
+		double remainingDuration;
+
+		if (targetDuration <= duration) {
+
+			gain = targetGain;
+			state = targetState;
+			remainingDuration = duration - targetDuration;
+
+		} else {
+
+			gain = gain < targetGain ? gain + speed * duration : gain - speed * duration;
+			remainingDuration = 0.0;
+		}
+
+		return remainingDuration;
+	}
+
+	/**
+	 * @return current state
+	 * @since 0.2.1
+	 */
+	public AdsrState state() {
+		return state;
+	}
+
+	/**
+	 * @return current gain in volts
+	 * @since 0.2.1
+	 */
+	public double gain() {
+		return gain;
+	}
+}
@@ -1,14 +1,9 @@
 package com.github.achaaab.bragi.core.module.producer;
 
 import com.github.achaaab.bragi.common.AbstractNamedEntity;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import com.github.achaaab.bragi.gui.module.KeyView;
 import com.github.achaaab.bragi.scale.Note;
 
-import java.lang.reflect.InvocationTargetException;
-
-import static javax.swing.SwingUtilities.invokeAndWait;
-
 /**
  * @author Jonathan Guéhenneux
  * @since 0.0.6
@@ -46,12 +41,7 @@ public class Key extends AbstractNamedEntity {
 		this.code = code;
 
 		pressed = false;
-
-		try {
-			invokeAndWait(() -> view = new KeyView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+		view = null;
 	}
 
 	/**
@@ -87,10 +77,17 @@ public class Key extends AbstractNamedEntity {
 	}
 
 	/**
+	 * Returns the view of this key, creating it on first call. This must be called from the event dispatch thread.
+	 *
 	 * @return view of this key
 	 * @since 0.2.0
 	 */
 	public KeyView view() {
+
+		if (view == null) {
+			view = new KeyView(this);
+		}
+
 		return view;
 	}
 
@@ -126,6 +123,8 @@ public class Key extends AbstractNamedEntity {
 
 		this.pressed = pressed;
 
-		view.setPressed(pressed);
+		if (view != null) {
+			view.setPressed(pressed);
+		}
 	}
 }
@@ -1,9 +1,8 @@
 package com.github.achaaab.bragi.core.module.producer;
 
-import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.connection.ChunkPool;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import com.github.achaaab.bragi.gui.module.KeyboardView;
 import com.github.achaaab.bragi.mml.MmlPlayer;
 import com.github.achaaab.bragi.scale.ChromaticScale;
@@ -11,7 +10,7 @@ import com.github.achaaab.bragi.scale.Note;
 import com.github.achaaab.bragi.scale.Scale;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +18,7 @@ import java.util.Map;
 
 import static com.github.achaaab.bragi.scale.ChromaticScale.BASE_FREQUENCY;
 import static com.github.achaaab.bragi.scale.ChromaticScale.sharp;
+import static com.github.achaaab.bragi.dsp.ChunkShape.CONSTANT;
 import static java.awt.event.KeyEvent.VK_A;
 import static java.awt.event.KeyEvent.VK_B;
 import static java.awt.event.KeyEvent.VK_C;
@@ -50,7 +50,6 @@ import static java.awt.event.KeyEvent.VK_Z;
 import static java.awt.event.KeyEvent.getExtendedKeyCodeForChar;
 import static java.lang.Math.log;
 import static java.util.Arrays.fill;
-import static javax.swing.SwingUtilities.invokeAndWait;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -147,23 +146,23 @@ public class Keyboard extends Module {
 
 		previousPressedKeyCount = 0;
 		pressedKeyCount = 0;
+	}
 
-		try {
-			invokeAndWait(() -> view = new KeyboardView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new KeyboardView(this);
 	}
 
 	@Override
 	public int compute() throws InterruptedException {
 
-		var sampleCount = Settings.INSTANCE.chunkSize();
+		var sampleCount = settings().chunkSize();
 
-		var samples = new float[sampleCount];
-		fill(samples, voltage);
+		var pool = ChunkPool.local();
+		var chunk = pool.allocate(sampleCount);
+		fill(chunk.samples(), voltage);
 
-		output.write(samples);
+		output.write(chunk, CONSTANT);
 
 		var gateSample = 0.0f;
 
@@ -175,7 +174,10 @@ public class Keyboard extends Module {
 
 		previousPressedKeyCount = pressedKeyCount;
 
-		gate.write(new float[] { gateSample });
+		var gateChunk = pool.allocate(1);
+		gateChunk.samples()[0] = gateSample;
+
+		gate.write(gateChunk, CONSTANT);
 
 		return sampleCount;
 	}
@@ -1,19 +1,16 @@
 package com.github.achaaab.bragi.core.module.producer;
 
-import com.github.achaaab.bragi.common.Settings;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import com.github.achaaab.bragi.core.module.producer.wave.Waveform;
 import com.github.achaaab.bragi.gui.module.LfoView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
 import static com.github.achaaab.bragi.core.module.producer.wave.Waveform.SINE;
-import static javax.swing.SwingUtilities.invokeAndWait;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * Low Frequency Oscillator
+ * Low Frequency Oscillator. Its wave is generated at control rate, as ramps, while its frequency is low enough.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.9
@@ -49,20 +46,12 @@ public class Lfo extends Oscillator {
 		setLowerPeak(INITIAL_LOWER_PEAK);
 		setUpperPeak(INITIAL_UPPER_PEAK);
 
-		try {
-			invokeAndWait(() -> view = new LfoView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+		wave.setControlRate(true);
+		wave.setBandLimited(false);
 	}
 
 	@Override
-	public int compute() throws InterruptedException {
-
-		var sampleCount = Settings.INSTANCE.chunkSize();
-		var samples = wave.getSamples(0, null, sampleCount);
-		output.write(samples);
-
-		return sampleCount;
+	protected Component createView() {
+		return new LfoView(this);
 	}
 }
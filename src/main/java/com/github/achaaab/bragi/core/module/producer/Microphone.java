@@ -3,6 +3,8 @@ package com.github.achaaab.bragi.core.module.producer;
 import com.github.achaaab.bragi.common.Interpolator;
 import com.github.achaaab.bragi.common.Normalizer;
 import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.connection.Chunk;
+import com.github.achaaab.bragi.core.connection.ChunkPool;
 import com.github.achaaab.bragi.core.module.Module;
 import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import org.slf4j.Logger;
@@ -12,6 +14,7 @@ import javax.sound.sampled.TargetDataLine;
 
 import static com.github.achaaab.bragi.common.Interpolator.CUBIC_HERMITE_SPLINE;
 import static java.lang.Math.round;
+import static java.lang.System.arraycopy;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -43,11 +46,12 @@ public class Microphone extends Module {
 			TWO_BYTES_MIN_VALUE, TWO_BYTES_MAX_VALUE,
 			Settings.INSTANCE.minimalVoltage(), Settings.INSTANCE.maximalVoltage());
 
-	private final int targetSampleRate;
+	private int targetSampleRate;
 
 	private TargetDataLine line;
 	private TargetDataLine newLine;
 	private byte[] data;
+	private float[][] frames;
 
 	/**
 	 * Creates a microphone with default name.
@@ -75,16 +79,17 @@ public class Microphone extends Module {
 			addSecondaryOutput(name + "_output_" + outputs.size());
 		}
 
-		targetSampleRate = Settings.INSTANCE.frameRate();
-
 		line = null;
 		newLine = null;
 		data = null;
+		frames = null;
 	}
 
 	@Override
 	public void configure() {
 
+		targetSampleRate = settings().frameRate();
+
 		var inputLine = synthesizer.configuration().inputLine();
 
 		if (inputLine != line) {
@@ -116,7 +121,7 @@ public class Microphone extends Module {
 		var format = line.getFormat();
 
 		var frameRate = format.getSampleRate();
-		var chunkDuration = Settings.INSTANCE.chunkDuration();
+		var chunkDuration = settings().chunkDuration();
 		var frameCount = round(frameRate * chunkDuration);
 		var frameSize = format.getFrameSize();
 		var dataLength = frameCount * frameSize;
@@ -155,7 +160,9 @@ public class Microphone extends Module {
 		var byteCount = line.read(data, 0, data.length);
 		var frameCount = byteCount / frameSize;
 
-		var chunk = new float[channelCount][frameCount];
+		if (frames == null || frames.length != channelCount || frames[0].length != frameCount) {
+			frames = new float[channelCount][frameCount];
+		}
 
 		var dataIndex = 0;
 
@@ -177,15 +184,28 @@ public class Microphone extends Module {
 					sample = TWO_BYTES_NORMALIZER.normalize(b1 & 0xFF | b0 << 8);
 				}
 
-				chunk[channelIndex][frameIndex] = sample;
+				frames[channelIndex][frameIndex] = sample;
 			}
 		}
 
 		for (var channelIndex = 0; channelIndex < channelCount; channelIndex++) {
 
-			outputs.get(channelIndex).write(sampleRate == targetSampleRate ?
-					chunk[channelIndex] :
-					INTERPOLATOR.interpolate(chunk[channelIndex], sampleRate, targetSampleRate));
+			Chunk channelChunk;
+
+			if (sampleRate == targetSampleRate) {
+
+				channelChunk = ChunkPool.local().allocate(frameCount);
+				arraycopy(frames[channelIndex], 0, channelChunk.samples(), 0, frameCount);
+
+			} else {
+
+				channelChunk = ChunkPool.local().allocate(
+						INTERPOLATOR.interpolatedLength(frameCount, sampleRate, targetSampleRate));
+
+				INTERPOLATOR.interpolate(frames[channelIndex], channelChunk.samples());
+			}
+
+			outputs.get(channelIndex).write(channelChunk);
 		}
 
 		return frameCount;
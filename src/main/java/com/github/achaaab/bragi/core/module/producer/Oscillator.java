@@ -30,6 +30,16 @@ public abstract class Oscillator extends Module {
 		wave = new Wave(initialWaveform, initialFrequency);
 	}
 
+	@Override
+	public void configure() {
+		wave.setFrameDuration(settings().frameDuration());
+	}
+
+	@Override
+	public int compute() throws InterruptedException {
+		return compute(wave, settings().chunkSize());
+	}
+
 	/**
 	 * @return waveform of this oscillator
 	 * @since 0.2.0
@@ -1,126 +1,128 @@
 package com.github.achaaab.bragi.core.module.producer;
 
-import com.github.achaaab.bragi.common.CircularFloatArray;
-import com.github.achaaab.bragi.common.GeometricRandom;
 import com.github.achaaab.bragi.common.Normalizer;
 import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.Processor;
 import org.slf4j.Logger;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-import static com.github.achaaab.bragi.common.ArrayUtils.createFloatArray;
-import static com.github.achaaab.bragi.common.ArrayUtils.sum;
-import static java.lang.Float.NaN;
-import static java.lang.Float.isNaN;
+import static java.lang.Long.numberOfTrailingZeros;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * pink noise generator
+ * Pink noise generator, based on the Voss-McCartney algorithm: the sum of {@value #ROW_COUNT} white noises, row
+ * {@code k} being updated every {@code 2^(k + 1)} samples, plus a white noise updated every sample. The row to update
+ * is given by the number of trailing zeros of a sample counter, so that exactly 1 row is updated per sample.
+ * <p>
+ * The noise is generated on the fly, in constant memory, and never repeats.
  *
  * @author Jonathan Guéhenneux
+ * @see <a href="https://www.firstpr.com.au/dsp/pink-noise/">Phil Burk, Pink Noise (Voss-McCartney)</a>
  * @since 0.0.7
  */
-public class PinkNoiseGenerator extends Module {
+public class PinkNoiseGenerator extends Module implements Processor {
 
 	private static final Logger LOGGER = getLogger(PinkNoiseGenerator.class);
 
 	public static final String DEFAULT_NAME = "pink_noise_generator";
 
-	private static final int PINK_NOISE_DURATION = 10;
-	private static final int PINK_NOISE_SIZE = PINK_NOISE_DURATION * Settings.INSTANCE.frameRate();
-	private static final int WHITE_NOISE_COUNT = 16;
+	private static final int ROW_COUNT = 16;
 
 	private static final Normalizer NORMALIZER = new Normalizer(
-			0.0f, WHITE_NOISE_COUNT,
+			0.0f, ROW_COUNT + 1,
 			Settings.INSTANCE.minimalVoltage(), Settings.INSTANCE.maximalVoltage());
 
+	private final Output output;
+	private final float[] rows;
+
+	private float rowSum;
+	private long counter;
+
 	/**
-	 * Creates a pink noise, summing white noises.
+	 * Creates a pink noise generator with default name.
 	 *
-	 * @return created pink noise
+	 * @see #DEFAULT_NAME
+	 * @since 0.0.9
+	 */
+	public PinkNoiseGenerator() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * @param name pink noise generator name
 	 * @since 0.2.0
 	 */
-	private static CircularFloatArray createPinkNoise() {
+	public PinkNoiseGenerator(String name) {
 
-		var uniformRandom = ThreadLocalRandom.current();
-		var geometricRandom = new GeometricRandom();
+		super(name);
 
-		var pinkNoise = new CircularFloatArray(PINK_NOISE_SIZE);
-		var whiteNoises = createFloatArray(PINK_NOISE_SIZE, WHITE_NOISE_COUNT, NaN);
+		output = addPrimaryOutput(name + "_output");
 
-		var randomSampleCount = 2 * PINK_NOISE_SIZE;
+		var random = ThreadLocalRandom.current();
+		rows = new float[ROW_COUNT];
+		rowSum = 0.0f;
 
-		while (randomSampleCount-- > 0) {
+		for (var row = 0; row < ROW_COUNT; row++) {
 
-			var trials = geometricRandom.searchRandomGeometricCoinFlip();
+			rows[row] = random.nextFloat();
+			rowSum += rows[row];
+		}
 
-			var sampleIndex = uniformRandom.nextInt(PINK_NOISE_SIZE);
-			var whiteNoiseIndex = trials > WHITE_NOISE_COUNT ? 0 : (int) trials - 1;
+		counter = 0;
+	}
 
-			whiteNoises[sampleIndex][whiteNoiseIndex] = uniformRandom.nextFloat();
-		}
+	@Override
+	protected int compute() throws InterruptedException {
+		return compute(this, settings().chunkSize());
+	}
 
-		for (var whiteNoiseIndex = 0; whiteNoiseIndex < WHITE_NOISE_COUNT; whiteNoiseIndex++) {
+	/**
+	 * Generates pink noise samples.
+	 *
+	 * @param inputChunks ignored, a pink noise generator has no input
+	 * @param samples block in which to write generated samples in volts
+	 * @since 0.2.1
+	 */
+	@Override
+	public void process(float[][] inputChunks, float[] samples) {
 
-			var randomSample = whiteNoises[0][whiteNoiseIndex];
+		var random = ThreadLocalRandom.current();
+		var sampleCount = samples.length;
 
-			if (isNaN(randomSample)) {
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
 
-				randomSample = uniformRandom.nextFloat();
-				whiteNoises[0][whiteNoiseIndex] = randomSample;
-			}
+			var row = numberOfTrailingZeros(++counter);
 
-			for (var sampleIndex = 1; sampleIndex < PINK_NOISE_SIZE; sampleIndex++) {
+			if (row < ROW_COUNT) {
 
-				if (isNaN(whiteNoises[sampleIndex][whiteNoiseIndex])) {
-					whiteNoises[sampleIndex][whiteNoiseIndex] = randomSample;
-				} else {
-					randomSample = whiteNoises[sampleIndex][whiteNoiseIndex];
-				}
+				var rowSample = random.nextFloat();
+				rowSum += rowSample - rows[row];
+				rows[row] = rowSample;
 			}
-		}
 
-		for (var sampleIndex = 0; sampleIndex < PINK_NOISE_SIZE; sampleIndex++) {
-			pinkNoise.write(NORMALIZER.normalize(sum(whiteNoises[sampleIndex])));
+			samples[sampleIndex] = NORMALIZER.normalize(rowSum + random.nextFloat());
 		}
 
-		return pinkNoise;
+		// the running sum accumulates rounding errors, it is recomputed once per row cycle
+		if (counter >>> ROW_COUNT != (counter - sampleCount) >>> ROW_COUNT) {
+			sumRows();
+		}
 	}
 
-	private final Output output;
-	private final CircularFloatArray pinkNoise;
-
 	/**
-	 * Creates a pink noise generator with default name.
+	 * Recomputes the sum of the rows.
 	 *
-	 * @see #DEFAULT_NAME
-	 * @since 0.0.9
+	 * @since 0.2.1
 	 */
-	public PinkNoiseGenerator() {
-		this(DEFAULT_NAME);
-	}
+	private void sumRows() {
 
-	/**
-	 * @param name pink noise generator name
-	 * @since 0.2.0
-	 */
-	public PinkNoiseGenerator(String name) {
-
-		super(name);
-
-		output = addPrimaryOutput(name + "_output");
-		pinkNoise = createPinkNoise();
-	}
-
-	@Override
-	protected int compute() throws InterruptedException {
+		rowSum = 0.0f;
 
-		var sampleCount = Settings.INSTANCE.chunkSize();
-		var samples = new float[sampleCount];
-		pinkNoise.read(samples);
-		output.write(samples);
-		return sampleCount;
+		for (var rowSample : rows) {
+			rowSum += rowSample;
+		}
 	}
 }
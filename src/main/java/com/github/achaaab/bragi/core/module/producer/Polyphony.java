@@ -0,0 +1,670 @@
+package com.github.achaaab.bragi.core.module.producer;
+
+import com.github.achaaab.bragi.common.Normalizer;
+import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.core.module.producer.wave.Waveform;
+import com.github.achaaab.bragi.core.module.producer.wave.Wavetable;
+import com.github.achaaab.bragi.core.module.transformer.LowPassVcf;
+import com.github.achaaab.bragi.core.module.transformer.Vca;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.LadderFilter;
+import com.github.achaaab.bragi.dsp.Processor;
+import com.github.achaaab.bragi.scale.ChromaticScale;
+import com.github.achaaab.bragi.scale.Note;
+import com.github.achaaab.bragi.scale.Scale;
+import org.slf4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.github.achaaab.bragi.common.FastMath.dbToGain;
+import static com.github.achaaab.bragi.common.FastMath.exp;
+import static com.github.achaaab.bragi.core.module.producer.Adsr.MINIMAL_GAIN;
+import static com.github.achaaab.bragi.core.module.producer.AdsrState.IDLE;
+import static com.github.achaaab.bragi.core.module.producer.AdsrState.RELEASE;
+import static com.github.achaaab.bragi.core.module.transformer.Vca.DECIBELS_PER_VOLT;
+import static java.lang.Math.abs;
+import static java.lang.Math.copySign;
+import static java.lang.Math.fma;
+import static java.lang.Math.pow;
+import static java.util.Arrays.fill;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * A polyphonic voice allocator. Every voice is a {@link Vco} → {@link LowPassVcf} → {@link Vca} chain driven by its
+ * own {@link Adsr} envelope, and the voices are mixed to the output.
+ * <p>
+ * All voices are processed by this single module. A voice holds the phase of its oscillator, a {@link LadderFilter}
+ * and an {@link Envelope}, the filter of a low-pass VCF and the envelope of an ADSR. The active voices are packed at
+ * the beginning of the voice array. A voice costs 1 loop over the chunk, instead of 4 modules, 4 threads and their
+ * buffers. Idle voices cost nothing and when every voice is idle, silent chunks are written.
+ * <p>
+ * Oscillators are band-limited: anti-aliased waveforms are evaluated with the frequency of each voice, other waveforms
+ * are read from their {@link Wavetable}, at the level matching the frequency of each voice.
+ * <p>
+ * Envelopes are computed at control rate: once per chunk, the gain being interpolated within the chunk. When a note
+ * is played while every voice is busy, a voice is stolen: the quietest releasing voice if any, the oldest voice
+ * otherwise.
+ * <p>
+ * The mix of the voices is scaled by the gain, then goes through a soft limiter: linear up to half the voltage range,
+ * where a single voice stays at the default gain, then compressed along a hyperbolic tangent toward the voltage range.
+ * A chord of many voices in phase saturates smoothly instead of being clipped, without making a single voice quieter.
+ * <p>
+ * Notes can be played and released from any thread, they are applied at the beginning of the next chunk.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class Polyphony extends Module implements Processor {
+
+	private static final Logger LOGGER = getLogger(Polyphony.class);
+
+	public static final String DEFAULT_NAME = "polyphony";
+	public static final int DEFAULT_VOICE_COUNT = 32;
+	public static final int DEFAULT_GAIN = -12;
+
+	private static final double LIMITER_KNEE = 0.5;
+
+	private static final Normalizer NORMALIZER = new Normalizer(
+			Settings.INSTANCE.minimalVoltage(), Settings.INSTANCE.maximalVoltage(),
+			-1.0f, 1.0f);
+
+	private final Scale scale;
+	private final Queue<NoteEvent> noteEvents;
+	private final Voice[] voices;
+
+	private int activeVoiceCount;
+	private long noteCount;
+	private long stolenVoiceCount;
+
+	// patch, shared by every voice
+	private Waveform waveform;
+	private Wavetable wavetable;
+
+	// oscillator block of the voice being rendered
+	private float[] oscillatorSamples;
+	private double[] periodPercentIncrements;
+	private float cutoffFrequency;
+	private float emphasis;
+	private double attack;
+	private double decay;
+	private double sustain;
+	private double release;
+	private int gain;
+	private double gainFactor;
+
+	/**
+	 * Creates a polyphony with default name and default voice count.
+	 *
+	 * @see #DEFAULT_NAME
+	 * @see #DEFAULT_VOICE_COUNT
+	 * @since 0.2.1
+	 */
+	public Polyphony() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * Creates a polyphony with default voice count.
+	 *
+	 * @param name name of the polyphony to create
+	 * @see #DEFAULT_VOICE_COUNT
+	 * @since 0.2.1
+	 */
+	public Polyphony(String name) {
+		this(name, DEFAULT_VOICE_COUNT);
+	}
+
+	/**
+	 * @param name name of the polyphony to create
+	 * @param voiceCount maximal number of voices playing at the same time, strictly positive
+	 * @since 0.2.1
+	 */
+	public Polyphony(String name, int voiceCount) {
+
+		super(name);
+
+		if (voiceCount < 1) {
+			throw new IllegalArgumentException("Voice count must be strictly positive.");
+		}
+
+		addPrimaryOutput(name + "_output");
+		scale = new ChromaticScale();
+		noteEvents = new ConcurrentLinkedQueue<>();
+		voices = new Voice[voiceCount];
+
+		for (var voiceIndex = 0; voiceIndex < voiceCount; voiceIndex++) {
+			voices[voiceIndex] = new Voice();
+		}
+
+		activeVoiceCount = 0;
+		noteCount = 0;
+		stolenVoiceCount = 0;
+
+		waveform = Waveform.SAWTOOTH;
+		wavetable = waveform.isAntiAliased() ? null : Wavetable.get(waveform);
+		cutoffFrequency = 2000.0f;
+		emphasis = 0.5f;
+		attack = 50;
+		decay = 50;
+		sustain = -0.5;
+		release = 10;
+
+		setGain(DEFAULT_GAIN);
+	}
+
+	@Override
+	protected int compute() throws InterruptedException {
+		return compute(this, settings().chunkSize());
+	}
+
+	@Override
+	public void process(float[][] inputChunks, float[] samples) {
+		process(inputChunks, null, samples);
+	}
+
+	/**
+	 * Applies the pending notes, then renders and mixes the active voices.
+	 *
+	 * @param inputChunks ignored, a polyphony has no input
+	 * @param inputShapes ignored, a polyphony has no input
+	 * @param samples block in which to write the mixed voices in volts
+	 * @return {@link ChunkShape#SILENT} if no voice is active, {@link ChunkShape#AUDIO} otherwise
+	 * @since 0.2.1
+	 */
+	@Override
+	public ChunkShape process(float[][] inputChunks, ChunkShape[] inputShapes, float[] samples) {
+
+		applyNoteEvents();
+
+		fill(samples, 0.0f);
+
+		if (activeVoiceCount == 0) {
+			return ChunkShape.SILENT;
+		}
+
+		var settings = settings();
+		var frameDuration = settings.frameDuration();
+		var nyquistFrequency = settings.nyquistFrequency();
+		var sampleCount = samples.length;
+		var chunkDuration = sampleCount * frameDuration;
+
+		if (oscillatorSamples == null || oscillatorSamples.length != sampleCount) {
+
+			oscillatorSamples = new float[sampleCount];
+			periodPercentIncrements = new double[sampleCount];
+		}
+
+		for (var voiceIndex = 0; voiceIndex < activeVoiceCount; voiceIndex++) {
+
+			var voice = voices[voiceIndex];
+			var envelope = voice.envelope;
+
+			var startAmplitude = amplitude(envelope.gain());
+			var endAmplitude = amplitude(envelope.advance(chunkDuration, attack, decay, sustain, release));
+
+			voice.filter.tune(cutoffFrequency, nyquistFrequency, emphasis);
+			renderVoice(voice, samples, frameDuration, startAmplitude, endAmplitude);
+		}
+
+		for (var voiceIndex = activeVoiceCount - 1; voiceIndex >= 0; voiceIndex--) {
+
+			if (voices[voiceIndex].envelope.state() == IDLE) {
+				freeVoice(voiceIndex);
+			}
+		}
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			samples[sampleIndex] = NORMALIZER.inverseNormalize((float) limit(samples[sampleIndex] * gainFactor));
+		}
+
+		return ChunkShape.AUDIO;
+	}
+
+	/**
+	 * Renders 1 voice and adds it to the mix.
+	 *
+	 * @param voice voice to render
+	 * @param mix normalized mix to which to add the voice
+	 * @param frameDuration duration of a frame in seconds (s)
+	 * @param startAmplitude amplitude at the beginning of the chunk
+	 * @param endAmplitude amplitude at the end of the chunk
+	 * @since 0.2.1
+	 */
+	private void renderVoice(Voice voice, float[] mix, double frameDuration, double startAmplitude,
+			double endAmplitude) {
+
+		var sampleCount = mix.length;
+		var filter = voice.filter;
+		var amplitudeIncrement = (endAmplitude - startAmplitude) / sampleCount;
+
+		// oscillator block, generated by a single call
+
+		fill(periodPercentIncrements, voice.frequency * frameDuration);
+
+		voice.periodPercent = wavetable == null ?
+				waveform.fill(oscillatorSamples, voice.periodPercent, periodPercentIncrements) :
+				wavetable.fill(oscillatorSamples, voice.periodPercent, periodPercentIncrements);
+
+		var amplitude = startAmplitude;
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+
+			var waveformSample = oscillatorSamples[sampleIndex];
+			var x = fma(2.0, (waveformSample - Waveform.LOWER_PEAK) / Waveform.AMPLITUDE, -1.0);
+
+			mix[sampleIndex] += (float) (filter.lowPass(x) * amplitude);
+
+			amplitude += amplitudeIncrement;
+		}
+	}
+
+	/**
+	 * Soft limiter, linear up to {@link #LIMITER_KNEE}, then following a hyperbolic tangent toward 1. The slope is 1 on
+	 * both sides of the knee.
+	 *
+	 * @param sample normalized sample
+	 * @return limited sample in ]-1.0, 1.0[
+	 * @since 0.2.1
+	 */
+	private static double limit(double sample) {
+
+		var magnitude = abs(sample);
+
+		if (magnitude > LIMITER_KNEE) {
+
+			var excess = (magnitude - LIMITER_KNEE) / (1.0 - LIMITER_KNEE);
+			var tanh = 1.0 - 2.0 / (exp(2.0 * excess) + 1.0);
+
+			sample = copySign(LIMITER_KNEE + (1.0 - LIMITER_KNEE) * tanh, sample);
+		}
+
+		return sample;
+	}
+
+	/**
+	 * @param envelopeGain envelope gain in volts
+	 * @return corresponding amplitude factor, {@code 0.0} at or below the minimal gain
+	 * @since 0.2.1
+	 */
+	private static double amplitude(double envelopeGain) {
+		return envelopeGain <= MINIMAL_GAIN ? 0.0 : dbToGain(DECIBELS_PER_VOLT * envelopeGain);
+	}
+
+	/**
+	 * Applies the notes played and released since the previous chunk.
+	 *
+	 * @since 0.2.1
+	 */
+	private void applyNoteEvents() {
+
+		NoteEvent noteEvent;
+
+		while ((noteEvent = noteEvents.poll()) != null) {
+
+			if (noteEvent.on()) {
+				noteOn(noteEvent.note());
+			} else {
+				noteOff(noteEvent.note());
+			}
+		}
+	}
+
+	/**
+	 * Starts a note on a voice: the voice already playing this note, a free voice or a stolen voice.
+	 *
+	 * @param note note to start
+	 * @since 0.2.1
+	 */
+	private void noteOn(Note note) {
+
+		var voiceIndex = findVoice(note);
+
+		if (voiceIndex == -1) {
+
+			if (activeVoiceCount < voices.length) {
+
+				voiceIndex = activeVoiceCount++;
+				voices[voiceIndex].reset();
+
+			} else {
+
+				voiceIndex = stealVoice();
+				stolenVoiceCount++;
+				LOGGER.debug("voice {} stolen to play {}", voiceIndex, note);
+			}
+		}
+
+		var voice = voices[voiceIndex];
+
+		voice.note = note;
+		voice.age = noteCount++;
+		voice.frequency = scale.frequency(note);
+		voice.envelope.attack();
+	}
+
+	/**
+	 * Releases the voices playing a note.
+	 *
+	 * @param note note to release
+	 * @since 0.2.1
+	 */
+	private void noteOff(Note note) {
+
+		for (var voiceIndex = 0; voiceIndex < activeVoiceCount; voiceIndex++) {
+
+			var voice = voices[voiceIndex];
+
+			if (note.equals(voice.note) && voice.envelope.state() != RELEASE) {
+				voice.envelope.release();
+			}
+		}
+	}
+
+	/**
+	 * @param note note
+	 * @return index of the active voice playing the given note, {@code -1} if there is none
+	 * @since 0.2.1
+	 */
+	private int findVoice(Note note) {
+
+		var voiceIndex = activeVoiceCount - 1;
+
+		while (voiceIndex >= 0 && !note.equals(voices[voiceIndex].note)) {
+			voiceIndex--;
+		}
+
+		return voiceIndex;
+	}
+
+	/**
+	 * Chooses the voice to steal when every voice is busy: the quietest releasing voice if any, the oldest voice
+	 * otherwise. The stolen voice keeps its phase, filter state and envelope gain, so that it does not click.
+	 *
+	 * @return index of the voice to steal
+	 * @since 0.2.1
+	 */
+	private int stealVoice() {
+
+		var quietestReleasingVoice = -1;
+		var oldestVoice = 0;
+
+		for (var voiceIndex = 0; voiceIndex < activeVoiceCount; voiceIndex++) {
+
+			var envelope = voices[voiceIndex].envelope;
+
+			if (envelope.state() == RELEASE && (quietestReleasingVoice == -1 ||
+					envelope.gain() < voices[quietestReleasingVoice].envelope.gain())) {
+
+				quietestReleasingVoice = voiceIndex;
+			}
+
+			if (voices[voiceIndex].age < voices[oldestVoice].age) {
+				oldestVoice = voiceIndex;
+			}
+		}
+
+		return quietestReleasingVoice == -1 ? oldestVoice : quietestReleasingVoice;
+	}
+
+	/**
+	 * Frees an idle voice, swapping it with the last active voice so that active voices stay packed.
+	 *
+	 * @param voiceIndex index of the voice to free
+	 * @since 0.2.1
+	 */
+	private void freeVoice(int voiceIndex) {
+
+		var lastVoiceIndex = --activeVoiceCount;
+		var freedVoice = voices[voiceIndex];
+
+		voices[voiceIndex] = voices[lastVoiceIndex];
+		voices[lastVoiceIndex] = freedVoice;
+
+		freedVoice.note = null;
+	}
+
+	/**
+	 * Plays a note on a voice. It is applied at the beginning of the next chunk.
+	 *
+	 * @param note note to play
+	 * @since 0.2.1
+	 */
+	public void play(Note note) {
+		noteEvents.add(new NoteEvent(note, true));
+	}
+
+	/**
+	 * Releases a note: the envelope of its voice enters its release. It is applied at the beginning of the next chunk.
+	 *
+	 * @param note note to release
+	 * @since 0.2.1
+	 */
+	public void release(Note note) {
+		noteEvents.add(new NoteEvent(note, false));
+	}
+
+	/**
+	 * @return maximal number of voices playing at the same time
+	 * @since 0.2.1
+	 */
+	public int voiceCount() {
+		return voices.length;
+	}
+
+	/**
+	 * @return number of voices playing or releasing a note
+	 * @since 0.2.1
+	 */
+	public int activeVoiceCount() {
+		return activeVoiceCount;
+	}
+
+	/**
+	 * @return number of voices stolen since the creation of this polyphony
+	 * @since 0.2.1
+	 */
+	public long stolenVoiceCount() {
+		return stolenVoiceCount;
+	}
+
+	/**
+	 * @return waveform of the oscillators
+	 * @since 0.2.1
+	 */
+	public Waveform getWaveform() {
+		return waveform;
+	}
+
+	/**
+	 * @param waveform waveform of the oscillators
+	 * @since 0.2.1
+	 */
+	public void setWaveform(Waveform waveform) {
+
+		this.waveform = waveform;
+
+		wavetable = waveform.isAntiAliased() ? null : Wavetable.get(waveform);
+	}
+
+	/**
+	 * @return cutoff frequency of the filters in hertz (Hz)
+	 * @since 0.2.1
+	 */
+	public float getCutoffFrequency() {
+		return cutoffFrequency;
+	}
+
+	/**
+	 * @param cutoffFrequency cutoff frequency of the filters in hertz (Hz)
+	 * @since 0.2.1
+	 */
+	public void setCutoffFrequency(float cutoffFrequency) {
+		this.cutoffFrequency = cutoffFrequency;
+	}
+
+	/**
+	 * @return emphasis of the filters
+	 * @since 0.2.1
+	 */
+	public float getEmphasis() {
+		return emphasis;
+	}
+
+	/**
+	 * @param emphasis emphasis of the filters
+	 * @since 0.2.1
+	 */
+	public void setEmphasis(float emphasis) {
+		this.emphasis = emphasis;
+	}
+
+	/**
+	 * @return attack speed of the envelopes in volts per second
+	 * @since 0.2.1
+	 */
+	public double getAttack() {
+		return attack;
+	}
+
+	/**
+	 * Attack speed must be strictly positive.
+	 *
+	 * @param attack attack speed of the envelopes in volts per second
+	 * @since 0.2.1
+	 */
+	public void setAttack(double attack) {
+		this.attack = attack;
+	}
+
+	/**
+	 * @return decay speed of the envelopes in volts per second
+	 * @since 0.2.1
+	 */
+	public double getDecay() {
+		return decay;
+	}
+
+	/**
+	 * Decay speed must be strictly positive.
+	 *
+	 * @param decay decay speed of the envelopes in volts per second
+	 * @since 0.2.1
+	 */
+	public void setDecay(double decay) {
+		this.decay = decay;
+	}
+
+	/**
+	 * @return sustain gain of the envelopes in volts
+	 * @since 0.2.1
+	 */
+	public double getSustain() {
+		return sustain;
+	}
+
+	/**
+	 * Sustain must be in range [MINIMAL_GAIN, MAXIMAL_GAIN].
+	 *
+	 * @param sustain sustain gain of the envelopes in volts
+	 * @see Adsr#MINIMAL_GAIN
+	 * @see Adsr#MAXIMAL_GAIN
+	 * @since 0.2.1
+	 */
+	public void setSustain(double sustain) {
+		this.sustain = sustain;
+	}
+
+	/**
+	 * @return release speed of the envelopes in volts per second
+	 * @since 0.2.1
+	 */
+	public double getRelease() {
+		return release;
+	}
+
+	/**
+	 * Release speed must be strictly positive.
+	 *
+	 * @param release release speed of the envelopes in volts per second
+	 * @since 0.2.1
+	 */
+	public void setRelease(double release) {
+		this.release = release;
+	}
+
+	/**
+	 * @return gain applied to the mix in decibels (dB)
+	 * @since 0.2.1
+	 */
+	public int getGain() {
+		return gain;
+	}
+
+	/**
+	 * @param gain gain applied to the mix in decibels (dB)
+	 * @since 0.2.1
+	 */
+	public void setGain(int gain) {
+
+		this.gain = gain;
+
+		gainFactor = pow(10.0, gain / 20.0);
+	}
+
+	/**
+	 * A note played or released, waiting to be applied by the computing thread.
+	 *
+	 * @param note played or released note
+	 * @param on whether the note is played
+	 * @since 0.2.1
+	 */
+	private record NoteEvent(Note note, boolean on) {
+
+	}
+
+	/**
+	 * State of a voice.
+	 *
+	 * @since 0.2.1
+	 */
+	private static class Voice {
+
+		private final Envelope envelope;
+		private final LadderFilter filter;
+
+		private Note note;
+		private long age;
+		private double frequency;
+		private double periodPercent;
+
+		/**
+		 * Creates an idle voice.
+		 *
+		 * @since 0.2.1
+		 */
+		private Voice() {
+
+			envelope = new Envelope();
+			filter = new LadderFilter();
+
+			note = null;
+			age = 0;
+			frequency = 0.0;
+			periodPercent = 0.0;
+		}
+
+		/**
+		 * Resets the state of this voice before it plays a note.
+		 *
+		 * @since 0.2.1
+		 */
+		private void reset() {
+
+			envelope.reset();
+			filter.reset();
+			periodPercent = 0.0;
+		}
+	}
+}
@@ -1,15 +1,15 @@
 package com.github.achaaab.bragi.core.module.producer;
 
-import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.connection.ChunkPool;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
 import com.github.achaaab.bragi.gui.module.ThereminView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
-import static javax.swing.SwingUtilities.invokeAndWait;
+import static com.github.achaaab.bragi.dsp.ChunkShape.CONSTANT;
+import static java.util.Arrays.fill;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -53,30 +53,27 @@ public class Theremin extends Module {
 
 		pitch = addPrimaryOutput(name + "_pitch");
 		volume = addSecondaryOutput(name + "_volume");
+	}
 
-		try {
-			invokeAndWait(() -> view = new ThereminView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new ThereminView(this);
 	}
 
 	@Override
 	protected int compute() throws InterruptedException {
 
-		var sampleCount = Settings.INSTANCE.chunkSize();
-
-		var pitchSamples = new float[sampleCount];
-		var volumeSamples = new float[sampleCount];
+		var sampleCount = settings().chunkSize();
 
-		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+		var pool = ChunkPool.local();
+		var pitchChunk = pool.allocate(sampleCount);
+		var volumeChunk = pool.allocate(sampleCount);
 
-			pitchSamples[sampleIndex] = pitchSample;
-			volumeSamples[sampleIndex] = volumeSample;
-		}
+		fill(pitchChunk.samples(), pitchSample);
+		fill(volumeChunk.samples(), volumeSample);
 
-		pitch.write(pitchSamples);
-		volume.write(volumeSamples);
+		pitch.write(pitchChunk, CONSTANT);
+		volume.write(volumeChunk, CONSTANT);
 
 		return sampleCount;
 	}
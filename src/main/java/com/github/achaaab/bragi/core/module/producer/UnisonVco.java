@@ -0,0 +1,380 @@
+package com.github.achaaab.bragi.core.module.producer;
+
+import com.github.achaaab.bragi.core.connection.ChunkPool;
+import com.github.achaaab.bragi.core.connection.Input;
+import com.github.achaaab.bragi.core.connection.Output;
+import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.core.module.producer.wave.Waveform;
+import com.github.achaaab.bragi.core.module.producer.wave.Wavetable;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.ExponentialModulation;
+import com.github.achaaab.bragi.dsp.Kernels;
+import com.github.achaaab.bragi.gui.module.UnisonVcoView;
+import org.slf4j.Logger;
+
+import java.awt.Component;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.github.achaaab.bragi.common.FastMath.exp2;
+import static com.github.achaaab.bragi.core.module.producer.wave.Waveform.AMPLITUDE;
+import static com.github.achaaab.bragi.core.module.producer.wave.Waveform.LOWER_PEAK;
+import static com.github.achaaab.bragi.core.module.producer.wave.Waveform.SAWTOOTH;
+import static java.lang.Math.min;
+import static java.util.Arrays.fill;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Unison Voltage-Controlled Oscillator: several detuned voices of one waveform, spread across a stereo image. With
+ * a sawtooth, this is the so-called supersaw.
+ * <p>
+ * Voices are evenly detuned between {@code -detune} and {@code +detune} cents and evenly panned between
+ * {@code -width} and {@code +width}. They start at random phases. Each voice is weighted by {@code 1 / voice count}
+ * and the channel gains of a voice do not exceed its weight, so that the stacked voices never exceed the voltage
+ * range, even when their peaks align. The loudness of the stacked voices therefore decreases with their count.
+ * <p>
+ * All voices are rendered by this single module, in a struct-of-arrays layout, instead of a {@link Vco} per voice
+ * mixed by cascaded {@link com.github.achaaab.bragi.core.module.transformer.Mixer}s, each with its thread and its
+ * chunks. Each voice is generated by a single call to {@link Waveform#fill(float[], double, double[])}, or to its
+ * {@link Wavetable}, then stacked on both channels with {@link Kernels}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class UnisonVco extends Module {
+
+	private static final Logger LOGGER = getLogger(UnisonVco.class);
+
+	public static final String DEFAULT_NAME = "unison_vco";
+	public static final Waveform INITIAL_WAVEFORM = SAWTOOTH;
+	public static final double BASE_FREQUENCY = 440;
+	public static final int MAXIMAL_VOICE_COUNT = 16;
+	public static final int INITIAL_VOICE_COUNT = 7;
+	public static final int MAXIMAL_DETUNE = 100;
+	public static final int INITIAL_DETUNE = 20;
+	public static final int MAXIMAL_WIDTH = 100;
+	public static final int INITIAL_WIDTH = 80;
+
+	private final Input modulation;
+	private final Output left;
+	private final Output right;
+	private final ExponentialModulation exponentialModulation;
+
+	// voice state, struct-of-arrays
+	private final double[] periodPercents;
+	private final double[] frequencyRatios;
+	private final float[] leftGains;
+	private final float[] rightGains;
+
+	private Waveform waveform;
+	private Wavetable wavetable;
+	private double frequency;
+	private int voiceCount;
+	private int detune;
+	private int width;
+	private int octave;
+
+	// blocks of the chunk being rendered
+	private double[] periodPercentIncrements;
+	private double[] voicePeriodPercentIncrements;
+	private float[] voiceSamples;
+
+	/**
+	 * Creates a unison VCO with default name.
+	 *
+	 * @see #DEFAULT_NAME
+	 * @since 0.2.1
+	 */
+	public UnisonVco() {
+		this(DEFAULT_NAME);
+	}
+
+	/**
+	 * @param name name of the unison VCO
+	 * @since 0.2.1
+	 */
+	public UnisonVco(String name) {
+
+		super(name);
+
+		modulation = addSecondaryInput(name + "_modulation");
+		left = addPrimaryOutput(name + "_left");
+		right = addSecondaryOutput(name + "_right");
+
+		exponentialModulation = new ExponentialModulation(2.0);
+
+		periodPercents = new double[MAXIMAL_VOICE_COUNT];
+		frequencyRatios = new double[MAXIMAL_VOICE_COUNT];
+		leftGains = new float[MAXIMAL_VOICE_COUNT];
+		rightGains = new float[MAXIMAL_VOICE_COUNT];
+
+		var random = ThreadLocalRandom.current();
+
+		for (var voice = 0; voice < MAXIMAL_VOICE_COUNT; voice++) {
+			periodPercents[voice] = random.nextDouble();
+		}
+
+		setWaveform(INITIAL_WAVEFORM);
+		frequency = BASE_FREQUENCY;
+		setVoiceCount(INITIAL_VOICE_COUNT);
+		detune = INITIAL_DETUNE;
+		width = INITIAL_WIDTH;
+		octave = 0;
+	}
+
+	@Override
+	protected Component createView() {
+		return new UnisonVcoView(this);
+	}
+
+	@Override
+	protected int compute() throws InterruptedException {
+
+		var sampleCount = settings().chunkSize();
+		var inputChunks = readInputs();
+
+		var pool = ChunkPool.local();
+		var leftChunk = pool.allocate(sampleCount);
+		var rightChunk = pool.allocate(sampleCount);
+
+		process(inputChunks[0], ChunkShape.get(inputShapes(), 0), leftChunk.samples(), rightChunk.samples());
+
+		left.write(leftChunk);
+		right.write(rightChunk);
+
+		return sampleCount;
+	}
+
+	/**
+	 * Renders and stacks the voices, then converts both channels to volts.
+	 *
+	 * @param modulationSamples modulation samples in volts per octave, {@code null} if there is no modulation
+	 * @param modulationShape shape of the modulation block
+	 * @param leftSamples block in which to write the left channel in volts
+	 * @param rightSamples block in which to write the right channel in volts
+	 * @since 0.2.1
+	 */
+	public void process(float[] modulationSamples, ChunkShape modulationShape,
+			float[] leftSamples, float[] rightSamples) {
+
+		var settings = settings();
+		var sampleCount = leftSamples.length;
+		var frameDuration = settings.frameDuration();
+
+		if (voiceSamples == null || voiceSamples.length != sampleCount) {
+
+			periodPercentIncrements = new double[sampleCount];
+			voicePeriodPercentIncrements = new double[sampleCount];
+			voiceSamples = new float[sampleCount];
+		}
+
+		exponentialModulation.prepare(modulationSamples, modulationShape, octave, 1.0);
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+
+			var factor = exponentialModulation.factor(sampleIndex);
+			periodPercentIncrements[sampleIndex] = frequency * factor * frameDuration;
+		}
+
+		// the tuning can be changed from any thread, it is read once per chunk
+		var chunkVoiceCount = voiceCount;
+		var chunkWaveform = waveform;
+		var chunkWavetable = wavetable;
+
+		tuneVoices(chunkVoiceCount, detune, width);
+
+		fill(leftSamples, 0.0f);
+		fill(rightSamples, 0.0f);
+
+		var kernels = Kernels.INSTANCE;
+		var leftGainSum = 0.0f;
+		var rightGainSum = 0.0f;
+
+		for (var voice = 0; voice < chunkVoiceCount; voice++) {
+
+			var frequencyRatio = frequencyRatios[voice];
+
+			for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+				voicePeriodPercentIncrements[sampleIndex] = periodPercentIncrements[sampleIndex] * frequencyRatio;
+			}
+
+			periodPercents[voice] = chunkWavetable == null ?
+					chunkWaveform.fill(voiceSamples, periodPercents[voice], voicePeriodPercentIncrements) :
+					chunkWavetable.fill(voiceSamples, periodPercents[voice], voicePeriodPercentIncrements);
+
+			kernels.mix(leftSamples, 1.0f, voiceSamples, leftGains[voice], leftSamples);
+			kernels.mix(rightSamples, 1.0f, voiceSamples, rightGains[voice], rightSamples);
+
+			leftGainSum += leftGains[voice];
+			rightGainSum += rightGains[voice];
+		}
+
+		var minimalVoltage = settings.minimalVoltage();
+		var maximalVoltage = settings.maximalVoltage();
+		var amplification = (maximalVoltage - minimalVoltage) / AMPLITUDE;
+		var centerVoltage = (minimalVoltage + maximalVoltage) / 2;
+		var center = LOWER_PEAK + AMPLITUDE / 2;
+
+		kernels.normalize(leftSamples, center * leftGainSum, amplification, centerVoltage,
+				minimalVoltage, maximalVoltage, leftSamples);
+
+		kernels.normalize(rightSamples, center * rightGainSum, amplification, centerVoltage,
+				minimalVoltage, maximalVoltage, rightSamples);
+	}
+
+	/**
+	 * Computes the frequency ratio and the channel gains of each voice.
+	 *
+	 * @param voiceCount number of voices
+	 * @param detune detune of the outermost voices in cents
+	 * @param width stereo width in percents
+	 * @since 0.2.1
+	 */
+	private void tuneVoices(int voiceCount, int detune, int width) {
+
+		var voiceGain = 1.0 / voiceCount;
+
+		for (var voice = 0; voice < voiceCount; voice++) {
+
+			// position of the voice in [-1, 1], from the lowest to the highest
+			var position = voiceCount == 1 ? 0.0 : 2.0 * voice / (voiceCount - 1) - 1.0;
+			var pan = position * width / MAXIMAL_WIDTH;
+
+			// alternate sides, so that neighbour frequencies are not panned together
+			if ((voice & 1) == 1) {
+				pan = -pan;
+			}
+
+			frequencyRatios[voice] = exp2(position * detune / 1200.0);
+			leftGains[voice] = (float) (voiceGain * min(1.0, 1.0 - pan));
+			rightGains[voice] = (float) (voiceGain * min(1.0, 1.0 + pan));
+		}
+	}
+
+	/**
+	 * @return exponential modulation input, in volts per octave
+	 * @since 0.2.1
+	 */
+	public Input modulation() {
+		return modulation;
+	}
+
+	/**
+	 * @return left output
+	 * @since 0.2.1
+	 */
+	public Output left() {
+		return left;
+	}
+
+	/**
+	 * @return right output
+	 * @since 0.2.1
+	 */
+	public Output right() {
+		return right;
+	}
+
+	/**
+	 * @return waveform of the voices
+	 * @since 0.2.1
+	 */
+	public Waveform getWaveform() {
+		return waveform;
+	}
+
+	/**
+	 * @param waveform waveform of the voices
+	 * @since 0.2.1
+	 */
+	public void setWaveform(Waveform waveform) {
+
+		this.waveform = waveform;
+
+		wavetable = waveform.isAntiAliased() ? null : Wavetable.get(waveform);
+	}
+
+	/**
+	 * @return frequency of the central voice in hertz, without modulation
+	 * @since 0.2.1
+	 */
+	public double getFrequency() {
+		return frequency;
+	}
+
+	/**
+	 * @param frequency frequency of the central voice in hertz, without modulation
+	 * @since 0.2.1
+	 */
+	public void setFrequency(double frequency) {
+		this.frequency = frequency;
+	}
+
+	/**
+	 * @return number of voices
+	 * @since 0.2.1
+	 */
+	public int getVoiceCount() {
+		return voiceCount;
+	}
+
+	/**
+	 * @param voiceCount number of voices, in [1, {@link #MAXIMAL_VOICE_COUNT}]
+	 * @since 0.2.1
+	 */
+	public void setVoiceCount(int voiceCount) {
+
+		if (voiceCount < 1 || voiceCount > MAXIMAL_VOICE_COUNT) {
+			throw new IllegalArgumentException("Voice count must be between 1 and " + MAXIMAL_VOICE_COUNT + ".");
+		}
+
+		this.voiceCount = voiceCount;
+	}
+
+	/**
+	 * @return detune of the outermost voices in cents
+	 * @since 0.2.1
+	 */
+	public int getDetune() {
+		return detune;
+	}
+
+	/**
+	 * @param detune detune of the outermost voices in cents
+	 * @since 0.2.1
+	 */
+	public void setDetune(int detune) {
+		this.detune = detune;
+	}
+
+	/**
+	 * @return stereo width in percents, 0 for mono
+	 * @since 0.2.1
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * @param width stereo width in percents, 0 for mono
+	 * @since 0.2.1
+	 */
+	public void setWidth(int width) {
+		this.width = width;
+	}
+
+	/**
+	 * @return octave adjustment
+	 * @since 0.2.1
+	 */
+	public int getOctave() {
+		return octave;
+	}
+
+	/**
+	 * @param octave octave adjustment
+	 * @since 0.2.1
+	 */
+	public void setOctave(int octave) {
+		this.octave = octave;
+	}
+}
@@ -1,20 +1,19 @@
 package com.github.achaaab.bragi.core.module.producer;
 
-import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.connection.Input;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
+import com.github.achaaab.bragi.core.module.producer.wave.Wave;
 import com.github.achaaab.bragi.core.module.producer.wave.Waveform;
 import com.github.achaaab.bragi.gui.module.VcoView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
 import static com.github.achaaab.bragi.core.module.producer.wave.Waveform.SINE;
-import static javax.swing.SwingUtilities.invokeAndWait;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * Voltage-Controlled Oscillator
+ * Voltage-Controlled Oscillator. Besides the exponential modulation (volts per octave), it has a linear through-zero
+ * frequency modulation input, a phase modulation input and a hard synchronization input, see {@link Wave}.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.9
@@ -27,9 +26,10 @@ public class Vco extends Oscillator {
 	public static final Waveform INITIAL_WAVEFORM = SINE;
 	public static final double BASE_FREQUENCY = 440;
 
-	private int octave;
-
 	private final Input modulation;
+	private final Input linearModulation;
+	private final Input phaseModulation;
+	private final Input sync;
 
 	/**
 	 * Creates a VCO with default name.
@@ -49,26 +49,17 @@ public class Vco extends Oscillator {
 
 		super(name, INITIAL_WAVEFORM, BASE_FREQUENCY);
 
-		modulation = addSecondaryInput(name + "_modulation");
-
-		octave = 0;
+		// inputs are read in the order expected by the wave
 
-		try {
-			invokeAndWait(() -> view = new VcoView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+		modulation = addSecondaryInput(name + "_modulation");
+		linearModulation = addSecondaryInput(name + "_linear_modulation");
+		phaseModulation = addSecondaryInput(name + "_phase_modulation");
+		sync = addSecondaryInput(name + "_sync");
 	}
 
 	@Override
-	public int compute() throws InterruptedException {
-
-		var sampleCount = Settings.INSTANCE.chunkSize();
-		var modulationSamples = modulation.read();
-		var samples = wave.getSamples(octave, modulationSamples, sampleCount);
-		output.write(samples);
-
-		return sampleCount;
+	protected Component createView() {
+		return new VcoView(this);
 	}
 
 	/**
@@ -79,12 +70,69 @@ public class Vco extends Oscillator {
 		return modulation;
 	}
 
+	/**
+	 * @return linear through-zero frequency modulation input
+	 * @since 0.2.1
+	 */
+	public Input linearModulation() {
+		return linearModulation;
+	}
+
+	/**
+	 * @return phase modulation input
+	 * @since 0.2.1
+	 */
+	public Input phaseModulation() {
+		return phaseModulation;
+	}
+
+	/**
+	 * @return hard synchronization input, the period restarts on each rising zero crossing
+	 * @since 0.2.1
+	 */
+	public Input sync() {
+		return sync;
+	}
+
+	/**
+	 * @return linear frequency modulation index, frequency increase per volt relative to the frequency
+	 * @since 0.2.1
+	 */
+	public double getLinearModulationIndex() {
+		return wave.getLinearModulationIndex();
+	}
+
+	/**
+	 * @param linearModulationIndex linear frequency modulation index, frequency increase per volt relative to the
+	 * frequency
+	 * @since 0.2.1
+	 */
+	public void setLinearModulationIndex(double linearModulationIndex) {
+		wave.setLinearModulationIndex(linearModulationIndex);
+	}
+
+	/**
+	 * @return phase modulation depth in periods per volt
+	 * @since 0.2.1
+	 */
+	public double getPhaseModulationDepth() {
+		return wave.getPhaseModulationDepth();
+	}
+
+	/**
+	 * @param phaseModulationDepth phase modulation depth in periods per volt
+	 * @since 0.2.1
+	 */
+	public void setPhaseModulationDepth(double phaseModulationDepth) {
+		wave.setPhaseModulationDepth(phaseModulationDepth);
+	}
+
 	/**
 	 * @return octave adjustment
 	 * @since 0.2.0
 	 */
 	public int getOctave() {
-		return octave;
+		return wave.getOctave();
 	}
 
 	/**
@@ -92,6 +140,6 @@ public class Vco extends Oscillator {
 	 * @since 0.2.0
 	 */
 	public void setOctave(int octave) {
-		this.octave = octave;
+		wave.setOctave(octave);
 	}
 }
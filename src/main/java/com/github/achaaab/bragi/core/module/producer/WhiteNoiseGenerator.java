@@ -2,6 +2,7 @@ package com.github.achaaab.bragi.core.module.producer;
 
 import com.github.achaaab.bragi.common.Normalizer;
 import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.connection.ChunkPool;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
 import org.slf4j.Logger;
@@ -53,8 +54,9 @@ public class WhiteNoiseGenerator extends Module {
 	@Override
 	protected int compute() throws InterruptedException {
 
-		var sampleCount = Settings.INSTANCE.chunkSize();
-		var samples = new float[sampleCount];
+		var sampleCount = settings().chunkSize();
+		var chunk = ChunkPool.local().allocate(sampleCount);
+		var samples = chunk.samples();
 
 		var random = ThreadLocalRandom.current();
 
@@ -62,7 +64,7 @@ public class WhiteNoiseGenerator extends Module {
 			samples[sampleIndex] = NORMALIZER.normalize(random.nextFloat());
 		}
 
-		output.write(samples);
+		output.write(chunk);
 
 		return sampleCount;
 	}
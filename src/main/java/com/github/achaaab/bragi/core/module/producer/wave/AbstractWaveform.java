@@ -2,6 +2,8 @@ package com.github.achaaab.bragi.core.module.producer.wave;
 
 import com.github.achaaab.bragi.common.AbstractNamedEntity;
 
+import static java.lang.Math.floor;
+
 /**
  * @author Jonathan Guéhenneux
  * @since 0.0.2
@@ -15,4 +17,24 @@ public abstract class AbstractWaveform extends AbstractNamedEntity implements Wa
 	public AbstractWaveform(String name) {
 		super(name);
 	}
+
+	/**
+	 * @param from start period fraction, excluded, possibly outside [0.0, 1.0[
+	 * @param to end period fraction, included, greater than or equal to {@code from}, possibly outside [0.0, 1.0[
+	 * @param discontinuity period fraction of a discontinuity, {@code discontinuity ∈ [0.0, 1.0[}
+	 * @return whether the discontinuity is reached, in any period, in {@code ]from, to]}
+	 * @since 0.2.1
+	 */
+	protected static boolean reaches(double from, double to, double discontinuity) {
+		return discontinuity + floor(to - discontinuity) > from;
+	}
+
+	/**
+	 * @param periodFraction period fraction, possibly outside [0.0, 1.0[
+	 * @return equivalent period fraction in [0.0, 1.0[
+	 * @since 0.2.1
+	 */
+	protected static double wrap(double periodFraction) {
+		return periodFraction >= 1.0 || periodFraction < 0.0 ? periodFraction - floor(periodFraction) : periodFraction;
+	}
 }
@@ -13,6 +13,9 @@ public class BandLimitedSquare extends AbstractWaveform {
 
 	private static final double COSINE_PERIOD = 2 * PI;
 	private static final int HARMONIC_COUNT = 50;
+	private static final double FALL_FRACTION = 0.25;
+	private static final double RISE_FRACTION = 0.75;
+	private static final double TRANSITION_FRACTION = 1.0 / HARMONIC_COUNT;
 
 	/**
 	 * @see #ANALOG_SQUARE
@@ -37,4 +40,13 @@ public class BandLimitedSquare extends AbstractWaveform {
 
 		return (float) (0.5 + 0.8 * sample);
 	}
+
+	@Override
+	public boolean isContinuous(double from, double to) {
+		// the cosine series falls at 1/4 and rises at 3/4 of the period, each edge spreading over its transition
+		var start = from - TRANSITION_FRACTION;
+		var end = to + TRANSITION_FRACTION;
+
+		return !reaches(start, end, FALL_FRACTION) && !reaches(start, end, RISE_FRACTION);
+	}
 }
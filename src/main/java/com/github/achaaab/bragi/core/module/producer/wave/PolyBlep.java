@@ -0,0 +1,100 @@
+package com.github.achaaab.bragi.core.module.producer.wave;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.min;
+
+/**
+ * Polynomial band-limited step (PolyBLEP) and ramp (PolyBLAMP) residuals. Added to a naive waveform around its
+ * discontinuities, they round the samples next to each step or corner, which removes most of the aliasing for a few
+ * operations per sample. Residuals are not zero only within one sample of a discontinuity.
+ *
+ * @author Jonathan Guéhenneux
+ * @see <a href="https://ieeexplore.ieee.org/document/4117934">Välimäki, Huovilainen, Antialiasing Oscillators in
+ * Subtractive Synthesis</a>
+ * @since 0.2.1
+ */
+public class PolyBlep {
+
+	/**
+	 * Maximal period percent increment per sample handled by the residuals, that is the Nyquist frequency.
+	 */
+	public static final double MAXIMAL_INCREMENT = 0.5;
+
+	/**
+	 * @param periodFractionIncrement period percent increment per sample, may be negative
+	 * @return absolute value of the given increment, limited to {@link #MAXIMAL_INCREMENT}
+	 * @since 0.2.1
+	 */
+	public static double limit(double periodFractionIncrement) {
+		return min(abs(periodFractionIncrement), MAXIMAL_INCREMENT);
+	}
+
+	/**
+	 * Computes the residual of a step of height 1 at {@code t = 0}.
+	 *
+	 * @param t distance to the step in periods, in [0, 1[
+	 * @param dt period percent increment per sample, in [0, 0.5], see {@link #limit(double)}
+	 * @return residual to add to a naive step of height 1
+	 * @since 0.2.1
+	 */
+	public static double blep(double t, double dt) {
+
+		double residual;
+
+		if (t < dt) {
+
+			var x = t / dt;
+			residual = -0.5 * (x - 1) * (x - 1);
+
+		} else if (t > 1 - dt) {
+
+			var x = (t - 1) / dt;
+			residual = 0.5 * (x + 1) * (x + 1);
+
+		} else {
+
+			residual = 0.0;
+		}
+
+		return residual;
+	}
+
+	/**
+	 * Computes the residual of a corner at {@code t = 0} whose slope increases by 1 per sample.
+	 *
+	 * @param t distance to the corner in periods, in [0, 1[
+	 * @param dt period percent increment per sample, in [0, 0.5], see {@link #limit(double)}
+	 * @return residual to add to a naive corner whose slope increases by 1 per sample
+	 * @since 0.2.1
+	 */
+	public static double blamp(double t, double dt) {
+
+		double residual;
+
+		if (t < dt) {
+
+			var x = t / dt - 1;
+			residual = -x * x * x / 6;
+
+		} else if (t > 1 - dt) {
+
+			var x = (t - 1) / dt + 1;
+			residual = x * x * x / 6;
+
+		} else {
+
+			residual = 0.0;
+		}
+
+		return residual;
+	}
+
+	/**
+	 * private constructor to prevent instantiation of this utility class
+	 *
+	 * @since 0.2.1
+	 */
+	private PolyBlep() {
+
+	}
+}
@@ -1,7 +1,11 @@
 package com.github.achaaab.bragi.core.module.producer.wave;
 
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.blep;
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.limit;
+
 /**
- * Naive pulse brutally switches between lower peak and upper peak.
+ * Naive pulse brutally switches between lower peak and upper peak. When its frequency is known, both steps are
+ * anti-aliased with PolyBLEP.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.2
@@ -29,4 +33,55 @@ public class Pulse extends AbstractWaveform {
 	public float getSample(double periodFraction) {
 		return periodFraction < dutyCycle ? UPPER_PEAK : LOWER_PEAK;
 	}
+
+	@Override
+	public double fill(float[] samples, int from, int to, double periodFraction, double[] periodFractionIncrements) {
+
+		for (var sampleIndex = from; sampleIndex < to; sampleIndex++) {
+
+			var periodFractionIncrement = periodFractionIncrements[sampleIndex];
+			var dt = limit(periodFractionIncrement);
+
+			double naiveSample;
+			double fallFraction;
+
+			if (periodFraction < dutyCycle) {
+
+				naiveSample = UPPER_PEAK;
+				fallFraction = periodFraction - dutyCycle + 1;
+
+			} else {
+
+				naiveSample = LOWER_PEAK;
+				fallFraction = periodFraction - dutyCycle;
+			}
+
+			var residual = blep(periodFraction, dt) - blep(fallFraction, dt);
+			samples[sampleIndex] = (float) (naiveSample + AMPLITUDE * residual);
+
+			periodFraction = wrap(periodFraction + periodFractionIncrement);
+		}
+
+		return periodFraction;
+	}
+
+	@Override
+	public float getSample(double periodFraction, double periodFractionIncrement) {
+
+		var dt = limit(periodFractionIncrement);
+		var fallFraction = periodFraction < dutyCycle ? periodFraction - dutyCycle + 1 : periodFraction - dutyCycle;
+		var residual = blep(periodFraction, dt) - blep(fallFraction, dt);
+
+		return (float) (getSample(periodFraction) + AMPLITUDE * residual);
+	}
+
+	@Override
+	public boolean isAntiAliased() {
+		return true;
+	}
+
+	@Override
+	public boolean isContinuous(double from, double to) {
+		return !reaches(from, to, 0.0) && !reaches(from, to, dutyCycle);
+	}
 }
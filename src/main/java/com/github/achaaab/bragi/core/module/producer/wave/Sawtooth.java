@@ -1,6 +1,11 @@
 package com.github.achaaab.bragi.core.module.producer.wave;
 
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.blep;
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.limit;
+
 /**
+ * Naive sawtooth, anti-aliased with PolyBLEP when its frequency is known.
+ *
  * @author Jonathan Guéhenneux
  * @since 0.1.0
  */
@@ -18,4 +23,37 @@ public class Sawtooth extends AbstractWaveform {
 	public float getSample(double periodFraction) {
 		return (float) (LOWER_PEAK + AMPLITUDE * periodFraction);
 	}
+
+	@Override
+	public double fill(float[] samples, int from, int to, double periodFraction, double[] periodFractionIncrements) {
+
+		for (var sampleIndex = from; sampleIndex < to; sampleIndex++) {
+
+			var periodFractionIncrement = periodFractionIncrements[sampleIndex];
+			var dt = limit(periodFractionIncrement);
+
+			samples[sampleIndex] = (float) (LOWER_PEAK + AMPLITUDE * (periodFraction - blep(periodFraction, dt)));
+
+			periodFraction = wrap(periodFraction + periodFractionIncrement);
+		}
+
+		return periodFraction;
+	}
+
+	@Override
+	public float getSample(double periodFraction, double periodFractionIncrement) {
+
+		var dt = limit(periodFractionIncrement);
+		return (float) (LOWER_PEAK + AMPLITUDE * (periodFraction - blep(periodFraction, dt)));
+	}
+
+	@Override
+	public boolean isAntiAliased() {
+		return true;
+	}
+
+	@Override
+	public boolean isContinuous(double from, double to) {
+		return !reaches(from, to, 0.0);
+	}
 }
@@ -46,4 +46,10 @@ public class SawtoothTriangular extends AbstractWaveform {
 		var normalizer = periodFraction <= peakFraction ? increaseNormalizer : decreaseNormalizer;
 		return normalizer.normalize(periodFraction);
 	}
+
+	@Override
+	public boolean isContinuous(double from, double to) {
+		// the drop is a jump, the start of the period is a corner
+		return !reaches(from, to, peakFraction) && !reaches(from, to, 0.0);
+	}
 }
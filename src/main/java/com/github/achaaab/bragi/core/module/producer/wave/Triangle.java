@@ -1,9 +1,13 @@
 package com.github.achaaab.bragi.core.module.producer.wave;
 
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.blamp;
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.limit;
+
 /**
  * The Triangle wave has an extremely strong fundamental, yet contains only odd-numbered harmonics at very low levels.
  * This makes the Triangle wave an ideal choice for creating soft, flute-like sounds
- * that have a pure tone with little overtone activity.
+ * that have a pure tone with little overtone activity. Its corners are anti-aliased with PolyBLAMP when its frequency
+ * is known.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.2
@@ -25,4 +29,60 @@ public class Triangle extends AbstractWaveform {
 				UPPER_PEAK - 2 * AMPLITUDE * periodFraction :
 				LOWER_PEAK + 2 * AMPLITUDE * (periodFraction - HALF_PERIOD));
 	}
+
+	@Override
+	public double fill(float[] samples, int from, int to, double periodFraction, double[] periodFractionIncrements) {
+
+		for (var sampleIndex = from; sampleIndex < to; sampleIndex++) {
+
+			var periodFractionIncrement = periodFractionIncrements[sampleIndex];
+			var dt = limit(periodFractionIncrement);
+
+			double naiveSample;
+			double troughFraction;
+
+			if (periodFraction < HALF_PERIOD) {
+
+				naiveSample = UPPER_PEAK - 2 * AMPLITUDE * periodFraction;
+				troughFraction = periodFraction + HALF_PERIOD;
+
+			} else {
+
+				naiveSample = LOWER_PEAK + 2 * AMPLITUDE * (periodFraction - HALF_PERIOD);
+				troughFraction = periodFraction - HALF_PERIOD;
+			}
+
+			var residual = 4 * dt * (blamp(troughFraction, dt) - blamp(periodFraction, dt));
+			samples[sampleIndex] = (float) (naiveSample + AMPLITUDE * residual);
+
+			periodFraction = wrap(periodFraction + periodFractionIncrement);
+		}
+
+		return periodFraction;
+	}
+
+	@Override
+	public float getSample(double periodFraction, double periodFractionIncrement) {
+
+		var dt = limit(periodFractionIncrement);
+		var troughFraction = periodFraction < HALF_PERIOD ?
+				periodFraction + HALF_PERIOD :
+				periodFraction - HALF_PERIOD;
+
+		// the slope changes by -4 amplitudes per period at the peak and by +4 at the trough
+		var residual = 4 * dt * (blamp(troughFraction, dt) - blamp(periodFraction, dt));
+
+		return (float) (getSample(periodFraction) + AMPLITUDE * residual);
+	}
+
+	@Override
+	public boolean isAntiAliased() {
+		return true;
+	}
+
+	@Override
+	public boolean isContinuous(double from, double to) {
+		// a ramp through the peak or the trough would cut the corner
+		return !reaches(from, to, 0.0) && !reaches(from, to, HALF_PERIOD);
+	}
 }
@@ -1,26 +1,74 @@
 package com.github.achaaab.bragi.core.module.producer.wave;
 
 import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.ExponentialModulation;
+import com.github.achaaab.bragi.dsp.Processor;
 
 import static com.github.achaaab.bragi.core.module.producer.wave.Waveform.AMPLITUDE;
 import static com.github.achaaab.bragi.core.module.producer.wave.Waveform.LOWER_PEAK;
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.blep;
+import static com.github.achaaab.bragi.core.module.producer.wave.PolyBlep.limit;
+import static java.lang.Math.floor;
 import static java.lang.Math.fma;
-import static java.lang.Math.pow;
 
 /**
+ * A wave generates samples of a waveform at a frequency modulated in volts per octave. A control-rate wave, typically
+ * the wave of an LFO, is generated as a ramp between the first and the last sample of each block while its frequency
+ * is low enough and no discontinuity of its waveform falls inside the block, so that the waveform is evaluated twice
+ * per block instead of once per sample.
+ * <p>
+ * Blocks are generated by a single call to {@link Waveform#fill(float[], double, double[])}, or to the wavetable of the
+ * waveform. Anti-aliased waveforms (PolyBLEP) are always evaluated with the period percent increment. A band-limited
+ * wave reads the other waveforms from their {@link Wavetable}, at the level matching the frequency.
+ * <p>
+ * Besides the exponential modulation (volts per octave), a wave has 3 audio-rate inputs, each one costing nothing
+ * while it is not connected:
+ * <ul>
+ *     <li>linear frequency modulation, multiplying the frequency by {@code 1 + index * volts}, through zero: the wave
+ *     runs backwards while the factor is negative,</li>
+ *     <li>phase modulation, shifting the phase by {@code depth * volts} periods,</li>
+ *     <li>hard synchronization, restarting the period on each rising zero crossing of the sync input.</li>
+ * </ul>
+ * Phase modulation is applied as a change of the period percent increments, and a block is split at synchronization
+ * points, so that the waveform loop stays the same as an unmodulated one. The step of each synchronization is
+ * smoothed with PolyBLEP.
+ *
  * @author Jonathan Guéhenneux
  * @since 0.1.0
  */
-public class Wave {
+public class Wave implements Processor {
 
-	private final double frameDuration;
+	// a control-rate block must not cover more than this fraction of a period
+	private static final double MAXIMAL_RAMP_PERIOD_PERCENT = 1.0 / 16;
+
+	public static final int MODULATION_INPUT = 0;
+	public static final int LINEAR_MODULATION_INPUT = 1;
+	public static final int PHASE_MODULATION_INPUT = 2;
+	public static final int SYNC_INPUT = 3;
+
+	public static final double INITIAL_LINEAR_MODULATION_INDEX = 1.0;
+	public static final double INITIAL_PHASE_MODULATION_DEPTH = 0.25;
+
+	private final ExponentialModulation modulation;
+
+	private double frameDuration;
+	private boolean controlRate;
+	private boolean bandLimited;
 
 	private Waveform waveform;
+	private Wavetable wavetable;
+	private double[] periodPercentIncrements;
 	private double frequency;
 	private double periodPercent;
+	private double linearModulationIndex;
+	private double phaseModulationDepth;
+	private double phaseOffset;
+	private float syncSample;
 	private float lowerPeak;
 	private float upperPeak;
 	private float amplitude;
+	private int octave;
 
 	/**
 	 * @param waveform waveform
@@ -32,12 +80,68 @@ public class Wave {
 		this.waveform = waveform;
 		this.frequency = frequency;
 
+		modulation = new ExponentialModulation(2.0);
+
 		frameDuration = Settings.INSTANCE.frameDuration();
 		lowerPeak = Settings.INSTANCE.minimalVoltage();
 		upperPeak = Settings.INSTANCE.maximalVoltage();
 
 		amplitude = upperPeak - lowerPeak;
 		periodPercent = 0;
+		linearModulationIndex = INITIAL_LINEAR_MODULATION_INDEX;
+		phaseModulationDepth = INITIAL_PHASE_MODULATION_DEPTH;
+		phaseOffset = 0.0;
+		syncSample = 0.0f;
+		octave = 0;
+		controlRate = false;
+		bandLimited = true;
+		wavetable = wavetable(waveform);
+	}
+
+	/**
+	 * @param frameDuration duration of a frame in seconds (s), inverse of the frame rate
+	 * @since 0.2.1
+	 */
+	public void setFrameDuration(double frameDuration) {
+		this.frameDuration = frameDuration;
+	}
+
+	/**
+	 * @return whether this wave is generated as ramps when its frequency is low enough
+	 * @since 0.2.1
+	 */
+	public boolean isControlRate() {
+		return controlRate;
+	}
+
+	/**
+	 * @param controlRate whether to generate this wave as ramps when its frequency is low enough
+	 * @since 0.2.1
+	 */
+	public void setControlRate(boolean controlRate) {
+		this.controlRate = controlRate;
+	}
+
+	/**
+	 * @return whether this wave reads wavetables for waveforms that are not anti-aliased
+	 * @since 0.2.1
+	 */
+	public boolean isBandLimited() {
+		return bandLimited;
+	}
+
+	/**
+	 * Band-limited waves are meant for audio-rate oscillators. Low frequency modulators should keep the exact shape
+	 * of their waveform, without the Gibbs ripples of wavetables.
+	 *
+	 * @param bandLimited whether this wave reads wavetables for waveforms that are not anti-aliased
+	 * @since 0.2.1
+	 */
+	public void setBandLimited(boolean bandLimited) {
+
+		this.bandLimited = bandLimited;
+
+		wavetable = wavetable(waveform);
 	}
 
 	/**
@@ -69,7 +173,10 @@ public class Wave {
 	 * @since 0.2.0
 	 */
 	public void setWaveform(Waveform waveform) {
+
 		this.waveform = waveform;
+
+		wavetable = wavetable(waveform);
 	}
 
 	/**
@@ -110,31 +217,357 @@ public class Wave {
 		amplitude = upperPeak - lowerPeak;
 	}
 
+	/**
+	 * @return octave adjustment
+	 * @since 0.2.1
+	 */
+	public int getOctave() {
+		return octave;
+	}
+
 	/**
 	 * @param octave octave adjustment
-	 * @param modulationSamples modulation samples in volts
-	 * @param sampleCount number of samples to generate
-	 * @return generated samples in volts
-	 * @since 0.2.0
+	 * @since 0.2.1
+	 */
+	public void setOctave(int octave) {
+		this.octave = octave;
+	}
+
+	/**
+	 * @return linear frequency modulation index, frequency increase per volt relative to the frequency
+	 * @since 0.2.1
+	 */
+	public double getLinearModulationIndex() {
+		return linearModulationIndex;
+	}
+
+	/**
+	 * @param linearModulationIndex linear frequency modulation index, frequency increase per volt relative to the
+	 * frequency
+	 * @since 0.2.1
+	 */
+	public void setLinearModulationIndex(double linearModulationIndex) {
+		this.linearModulationIndex = linearModulationIndex;
+	}
+
+	/**
+	 * @return phase modulation depth in periods per volt
+	 * @since 0.2.1
+	 */
+	public double getPhaseModulationDepth() {
+		return phaseModulationDepth;
+	}
+
+	/**
+	 * @param phaseModulationDepth phase modulation depth in periods per volt
+	 * @since 0.2.1
+	 */
+	public void setPhaseModulationDepth(double phaseModulationDepth) {
+		this.phaseModulationDepth = phaseModulationDepth;
+	}
+
+	/**
+	 * Generates wave samples. The input blocks, if any, are the modulation samples in volts, see
+	 * {@link #process(float[][], ChunkShape[], float[])}.
+	 *
+	 * @param inputChunks optional modulation samples in volts
+	 * @param samples block in which to write generated samples in volts
+	 * @since 0.2.1
+	 */
+	@Override
+	public void process(float[][] inputChunks, float[] samples) {
+		process(inputChunks, null, samples);
+	}
+
+	/**
+	 * Generates wave samples. The input blocks are optional, missing or {@code null} blocks are not connected:
+	 * <ol start="0">
+	 *     <li>exponential modulation in volts per octave,</li>
+	 *     <li>linear frequency modulation in volts,</li>
+	 *     <li>phase modulation in volts,</li>
+	 *     <li>hard synchronization.</li>
+	 * </ol>
+	 * A constant or ramp exponential modulation is converted to frequencies without per-sample exponentiation. Only
+	 * a wave without audio-rate input can be generated at control rate.
+	 *
+	 * @param inputChunks optional modulation samples in volts
+	 * @param inputShapes optional shape of the modulation block
+	 * @param samples block in which to write generated samples in volts
+	 * @return {@link ChunkShape#RAMP} if the block was generated at control rate, {@link ChunkShape#AUDIO} otherwise
+	 * @since 0.2.1
+	 */
+	@Override
+	public ChunkShape process(float[][] inputChunks, ChunkShape[] inputShapes, float[] samples) {
+
+		var modulationSamples = inputChunk(inputChunks, MODULATION_INPUT);
+		var linearModulationSamples = inputChunk(inputChunks, LINEAR_MODULATION_INPUT);
+		var phaseModulationSamples = inputChunk(inputChunks, PHASE_MODULATION_INPUT);
+		var syncSamples = inputChunk(inputChunks, SYNC_INPUT);
+		var sampleCount = samples.length;
+
+		modulation.prepare(modulationSamples, ChunkShape.get(inputShapes, MODULATION_INPUT), octave, 1.0);
+
+		var audioRateModulated = linearModulationSamples != null ||
+				phaseModulationSamples != null ||
+				phaseOffset != 0.0 ||
+				syncSamples != null;
+
+		if (modulation.isConstant() && !audioRateModulated) {
+
+			var periodPercentIncrement = frequency * modulation.factor(0) * frameDuration;
+			var lastPeriodPercent = fma(periodPercentIncrement, sampleCount - 1, periodPercent);
+
+			if (controlRate &&
+					periodPercentIncrement * sampleCount <= MAXIMAL_RAMP_PERIOD_PERCENT &&
+					waveform.isContinuous(periodPercent, lastPeriodPercent)) {
+
+				generateRamp(samples, periodPercentIncrement);
+				return ChunkShape.RAMP;
+			}
+
+		}
+
+		if (periodPercentIncrements == null || periodPercentIncrements.length != sampleCount) {
+			periodPercentIncrements = new double[sampleCount];
+		}
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			periodPercentIncrements[sampleIndex] = frequency * modulation.factor(sampleIndex) * frameDuration;
+		}
+
+		// each audio-rate input is handled by a branch per block, the unmodulated path is unchanged
+
+		if (linearModulationSamples != null) {
+			modulateLinearly(linearModulationSamples);
+		}
+
+		if (phaseModulationSamples != null || phaseOffset != 0.0) {
+			modulatePhase(phaseModulationSamples, sampleCount);
+		}
+
+		if (syncSamples == null) {
+
+			// a single call per block, the loop of the waveform or the wavetable is monomorphic
+			periodPercent = fill(samples, 0, sampleCount, periodPercent);
+
+		} else {
+
+			generateSynchronized(samples, syncSamples, phaseModulationSamples);
+		}
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			samples[sampleIndex] = scale(samples[sampleIndex]);
+		}
+
+		return ChunkShape.AUDIO;
+	}
+
+	/**
+	 * @param inputChunks input chunks
+	 * @param index index of an input chunk
+	 * @return input chunk at the given index, {@code null} if missing
+	 * @since 0.2.1
+	 */
+	private static float[] inputChunk(float[][] inputChunks, int index) {
+		return index < inputChunks.length ? inputChunks[index] : null;
+	}
+
+	/**
+	 * Fills a range of samples with a single call to the waveform or to its wavetable.
+	 *
+	 * @param samples block in which to write the samples
+	 * @param from index of the first sample to write, inclusive
+	 * @param to index of the last sample to write, exclusive
+	 * @param periodPercent period percent of the first sample, in [0, 1[
+	 * @return period percent following the range, in [0, 1[
+	 * @since 0.2.1
+	 */
+	private double fill(float[] samples, int from, int to, double periodPercent) {
+
+		return wavetable == null ?
+				waveform.fill(samples, from, to, periodPercent, periodPercentIncrements) :
+				wavetable.fill(samples, from, to, periodPercent, periodPercentIncrements);
+	}
+
+	/**
+	 * Applies a linear, through-zero, frequency modulation to the period percent increments.
+	 *
+	 * @param linearModulationSamples linear modulation samples in volts
+	 * @since 0.2.1
+	 */
+	private void modulateLinearly(float[] linearModulationSamples) {
+
+		var sampleCount = periodPercentIncrements.length;
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+
+			var factor = fma(linearModulationIndex, linearModulationSamples[sampleIndex], 1.0);
+			periodPercentIncrements[sampleIndex] *= factor;
+		}
+	}
+
+	/**
+	 * Applies a phase modulation. The phase offset of each sample is added to the increment leading to this sample,
+	 * so that the waveform loop reads {@code phase + offset} without knowing about phase modulation. The period
+	 * percent of this wave always includes the offset of the last generated sample.
+	 *
+	 * @param phaseModulationSamples phase modulation samples in volts, {@code null} to release the last offset
+	 * @param sampleCount number of samples in the block
+	 * @since 0.2.1
+	 */
+	private void modulatePhase(float[] phaseModulationSamples, int sampleCount) {
+
+		var offset = phaseModulationSamples == null ? 0.0 : phaseModulationDepth * phaseModulationSamples[0];
+		periodPercent = wrap(periodPercent + offset - phaseOffset);
+
+		for (var sampleIndex = 1; sampleIndex < sampleCount; sampleIndex++) {
+
+			var nextOffset = phaseModulationSamples == null ?
+					0.0 :
+					phaseModulationDepth * phaseModulationSamples[sampleIndex];
+
+			periodPercentIncrements[sampleIndex - 1] += nextOffset - offset;
+			offset = nextOffset;
+		}
+
+		phaseOffset = offset;
+	}
+
+	/**
+	 * Generates a block hard synchronized on the given samples. The period restarts on each rising zero crossing
+	 * of the sync samples, at the fraction of sample interpolated between the samples around the crossing. The block
+	 * is filled by ranges between crossings, then the step of each restart is smoothed with PolyBLEP, on the samples
+	 * before and after it.
+	 *
+	 * @param samples block in which to write the generated samples
+	 * @param syncSamples synchronization samples in volts
+	 * @param phaseModulationSamples phase modulation samples in volts, {@code null} if not connected
+	 * @since 0.2.1
 	 */
-	public float[] getSamples(int octave, float[] modulationSamples, int sampleCount) {
+	private void generateSynchronized(float[] samples, float[] syncSamples, float[] phaseModulationSamples) {
 
-		var samples = new float[sampleCount];
+		var sampleCount = samples.length;
+		var from = 0;
+
+		// correction of the step following the last restart, to apply once its range is filled
+		var correctionIndex = -1;
+		var correction = 0.0;
 
 		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
 
-			var waveformSample = waveform.getSample(periodPercent);
-			var waveSample = fma(amplitude, (waveformSample - LOWER_PEAK) / AMPLITUDE, lowerPeak);
+			var previousSyncSample = syncSample;
+			syncSample = syncSamples[sampleIndex];
+
+			if (previousSyncSample <= 0.0f && syncSample > 0.0f) {
 
-			samples[sampleIndex] = waveSample;
+				periodPercent = fill(samples, from, sampleIndex, periodPercent);
 
-			var modulationSample = modulationSamples == null ? 0.0 : modulationSamples[sampleIndex];
-			var modulationFactor = pow(2.0, octave + modulationSample);
-			var actualFrequency = frequency * modulationFactor;
+				if (correctionIndex >= 0) {
+					samples[correctionIndex] += (float) correction;
+				}
 
-			periodPercent = fma(actualFrequency, frameDuration, periodPercent) % 1.0;
+				// fraction of the sample interval elapsed since the crossing, in ]0, 1]
+				var elapsed = syncSample / (syncSample - previousSyncSample);
+				var periodPercentIncrement = periodPercentIncrements[sampleIndex];
+
+				var offset = phaseModulationSamples == null ?
+						0.0 :
+						phaseModulationDepth * phaseModulationSamples[sampleIndex];
+
+				var crossingPeriodPercent = wrap(periodPercent - elapsed * periodPercentIncrement);
+				var restartPeriodPercent = wrap(offset);
+				periodPercent = wrap(fma(elapsed, periodPercentIncrement, offset));
+
+				var step = waveform.getSample(restartPeriodPercent) - waveform.getSample(crossingPeriodPercent);
+				var dt = limit(periodPercentIncrement);
+
+				if (dt > 0.0) {
+
+					if (sampleIndex > 0) {
+						samples[sampleIndex - 1] += (float) (step * blep(1.0 - (1.0 - elapsed) * dt, dt));
+					}
+
+					correctionIndex = sampleIndex;
+					correction = step * blep(elapsed * dt, dt);
+
+				} else {
+
+					correctionIndex = -1;
+				}
+
+				from = sampleIndex;
+			}
+		}
+
+		periodPercent = fill(samples, from, sampleCount, periodPercent);
+
+		if (correctionIndex >= 0) {
+			samples[correctionIndex] += (float) correction;
+		}
+	}
+
+	/**
+	 * @param periodPercent period percent, possibly outside [0, 1[
+	 * @return equivalent period percent in [0, 1[
+	 * @since 0.2.1
+	 */
+	private static double wrap(double periodPercent) {
+		return periodPercent - floor(periodPercent);
+	}
+
+	/**
+	 * Generates a block as a ramp between the first and the last sample.
+	 *
+	 * @param samples block in which to write generated samples in volts
+	 * @param periodPercentIncrement period percent increment per sample
+	 * @since 0.2.1
+	 */
+	private void generateRamp(float[] samples, double periodPercentIncrement) {
+
+		var sampleCount = samples.length;
+		var lastIndex = sampleCount - 1;
+
+		var firstSample = sample(periodPercent);
+		var lastSample = sample(fma(periodPercentIncrement, lastIndex, periodPercent) % 1.0);
+		var slope = lastIndex == 0 ? 0.0f : (lastSample - firstSample) / lastIndex;
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			samples[sampleIndex] = fma(slope, sampleIndex, firstSample);
 		}
 
-		return samples;
+		periodPercent = fma(periodPercentIncrement, sampleCount, periodPercent) % 1.0;
+	}
+
+	/**
+	 * @param waveform waveform
+	 * @return wavetable to read for the given waveform, {@code null} if this wave is not band-limited or if the
+	 * waveform is anti-aliased
+	 * @since 0.2.1
+	 */
+	private Wavetable wavetable(Waveform waveform) {
+		return bandLimited && !waveform.isAntiAliased() ? Wavetable.get(waveform) : null;
+	}
+
+	/**
+	 * @param periodPercent position in the period, in [0, 1[
+	 * @return wave sample in volts
+	 * @since 0.2.1
+	 */
+	private float sample(double periodPercent) {
+
+		var waveformSample = wavetable == null ?
+				waveform.getSample(periodPercent) :
+				wavetable.getSample(0, periodPercent);
+
+		return scale(waveformSample);
+	}
+
+	/**
+	 * @param waveformSample waveform sample, between {@link Waveform#LOWER_PEAK} and {@link Waveform#UPPER_PEAK}
+	 * @return wave sample in volts
+	 * @since 0.2.1
+	 */
+	private float scale(float waveformSample) {
+		return fma(amplitude, (waveformSample - LOWER_PEAK) / AMPLITUDE, lowerPeak);
 	}
 }
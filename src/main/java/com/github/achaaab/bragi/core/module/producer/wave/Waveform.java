@@ -1,5 +1,7 @@
 package com.github.achaaab.bragi.core.module.producer.wave;
 
+import static java.lang.Math.floor;
+
 /**
  * @author Jonathan Guéhenneux
  * @since 0.1.0
@@ -40,4 +42,88 @@ public interface Waveform {
 	 * @since 0.2.0
 	 */
 	float getSample(double periodFraction);
+
+	/**
+	 * Computes 1 sample, knowing the frequency of the wave. An anti-aliased waveform uses the period fraction
+	 * increment to smooth its discontinuities, other waveforms return the naive sample.
+	 *
+	 * @param periodFraction {@code periodFraction ∈ [0.0, 1.0[}
+	 * @param periodFractionIncrement period fraction increment per sample, that is frequency / sample rate
+	 * @return sample at given fraction of waveform period
+	 * @see #isAntiAliased()
+	 * @since 0.2.1
+	 */
+	default float getSample(double periodFraction, double periodFractionIncrement) {
+		return getSample(periodFraction);
+	}
+
+	/**
+	 * Fills a block of samples, as {@link #getSample(double, double)} would.
+	 *
+	 * @param samples block in which to write the samples
+	 * @param periodFraction period fraction of the first sample, {@code periodFraction ∈ [0.0, 1.0[}
+	 * @param periodFractionIncrements period fraction increment of each sample, that is frequency / sample rate
+	 * @return period fraction following the block, in [0.0, 1.0[
+	 * @see #fill(float[], int, int, double, double[])
+	 * @since 0.2.1
+	 */
+	default double fill(float[] samples, double periodFraction, double[] periodFractionIncrements) {
+		return fill(samples, 0, samples.length, periodFraction, periodFractionIncrements);
+	}
+
+	/**
+	 * Fills a range of samples, as {@link #getSample(double, double)} would.
+	 * <p>
+	 * This loop is shared by every waveform, so when several waveforms are played its call to {@code getSample} is
+	 * megamorphic: it is not inlined and costs a virtual call per sample. This is negligible for waveforms computing
+	 * a sine or a cosine series, but it doubles the cost of cheap waveforms (sawtooth, triangle, pulse). Those
+	 * override this method with a loop computing their samples inline, which the JIT compiles on its own profile.
+	 *
+	 * @param samples block in which to write the samples
+	 * @param from index of the first sample to write, inclusive
+	 * @param to index of the last sample to write, exclusive
+	 * @param periodFraction period fraction of the first sample, {@code periodFraction ∈ [0.0, 1.0[}
+	 * @param periodFractionIncrements period fraction increment of each sample, that is frequency / sample rate,
+	 * indexed as the samples
+	 * @return period fraction following the range, in [0.0, 1.0[
+	 * @since 0.2.1
+	 */
+	default double fill(float[] samples, int from, int to, double periodFraction, double[] periodFractionIncrements) {
+
+		for (var sampleIndex = from; sampleIndex < to; sampleIndex++) {
+
+			var periodFractionIncrement = periodFractionIncrements[sampleIndex];
+			samples[sampleIndex] = getSample(periodFraction, periodFractionIncrement);
+
+			periodFraction += periodFractionIncrement;
+
+			if (periodFraction >= 1.0 || periodFraction < 0.0) {
+				periodFraction -= floor(periodFraction);
+			}
+		}
+
+		return periodFraction;
+	}
+
+	/**
+	 * Tells whether this waveform is continuous between 2 period fractions, so that a linear interpolation between
+	 * both ends is close to it: the range contains neither a jump nor a slope corner. A waveform is continuous by
+	 * default.
+	 *
+	 * @param from start period fraction, excluded, {@code from ∈ [0.0, 1.0[}
+	 * @param to end period fraction, included, greater than or equal to {@code from}, possibly beyond 1.0
+	 * @return whether this waveform has neither a jump nor a corner in {@code ]from, to]}
+	 * @since 0.2.1
+	 */
+	default boolean isContinuous(double from, double to) {
+		return true;
+	}
+
+	/**
+	 * @return whether {@link #getSample(double, double)} is anti-aliased, so that no wavetable is needed
+	 * @since 0.2.1
+	 */
+	default boolean isAntiAliased() {
+		return false;
+	}
 }
@@ -0,0 +1,248 @@
+package com.github.achaaab.bragi.core.module.producer.wave;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.abs;
+import static java.lang.Math.cos;
+import static java.lang.Math.floor;
+import static java.lang.Math.fma;
+import static java.lang.Math.getExponent;
+import static java.lang.Math.hypot;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.nextDown;
+import static java.lang.Math.sin;
+
+/**
+ * Mip-mapped, band-limited tables of one period of a waveform. Level 0 holds the first {@code TABLE_SIZE / 2}
+ * harmonics, each following level holds half the harmonics of the previous one, down to the fundamental alone. A wave
+ * reads the level matching its frequency, so that no harmonic exceeds the Nyquist frequency, with linear interpolation
+ * between table samples.
+ * <p>
+ * Harmonics are computed once per waveform, from a discrete Fourier transform of the waveform oversampled
+ * {@value #OVERSAMPLING} times. Tables are built on first use and shared.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class Wavetable {
+
+	public static final int TABLE_SIZE = 2048;
+	public static final int LEVEL_COUNT = getExponent((double) TABLE_SIZE);
+
+	private static final int OVERSAMPLING = 4;
+	private static final int ANALYSIS_SIZE = TABLE_SIZE * OVERSAMPLING;
+	private static final double NEGLIGIBLE_HARMONIC = 1.0e-7;
+
+	private static final Map<Waveform, Wavetable> WAVETABLES = new ConcurrentHashMap<>();
+
+	private final float[][] levels;
+
+	/**
+	 * @param waveform waveform
+	 * @return wavetable of the given waveform, built on first call
+	 * @since 0.2.1
+	 */
+	public static Wavetable get(Waveform waveform) {
+		return WAVETABLES.computeIfAbsent(waveform, Wavetable::new);
+	}
+
+	/**
+	 * Builds the tables of a waveform.
+	 *
+	 * @param waveform waveform to tabulate
+	 * @since 0.2.1
+	 */
+	private Wavetable(Waveform waveform) {
+
+		var cosines = new double[ANALYSIS_SIZE];
+		var sines = new double[ANALYSIS_SIZE];
+
+		for (var index = 0; index < ANALYSIS_SIZE; index++) {
+
+			var angle = 2 * PI * index / ANALYSIS_SIZE;
+			cosines[index] = cos(angle);
+			sines[index] = sin(angle);
+		}
+
+		var analysis = new double[ANALYSIS_SIZE];
+		var mean = 0.0;
+
+		for (var index = 0; index < ANALYSIS_SIZE; index++) {
+
+			analysis[index] = waveform.getSample((double) index / ANALYSIS_SIZE);
+			mean += analysis[index];
+		}
+
+		mean /= ANALYSIS_SIZE;
+
+		// partial sums of the Fourier series, a level is a snapshot once its harmonics are added
+
+		var synthesis = new double[TABLE_SIZE];
+		Arrays.fill(synthesis, mean);
+
+		levels = new float[LEVEL_COUNT][];
+
+		var harmonic = 1;
+
+		for (var level = LEVEL_COUNT - 1; level >= 0; level--) {
+
+			var harmonicCount = TABLE_SIZE >> level + 1;
+			var changed = false;
+
+			for (; harmonic <= harmonicCount; harmonic++) {
+
+				var a = 0.0;
+				var b = 0.0;
+
+				for (var index = 0; index < ANALYSIS_SIZE; index++) {
+
+					var phase = harmonic * index & ANALYSIS_SIZE - 1;
+					a = fma(analysis[index], cosines[phase], a);
+					b = fma(analysis[index], sines[phase], b);
+				}
+
+				a *= 2.0 / ANALYSIS_SIZE;
+				b *= 2.0 / ANALYSIS_SIZE;
+
+				if (hypot(a, b) > NEGLIGIBLE_HARMONIC) {
+
+					for (var index = 0; index < TABLE_SIZE; index++) {
+
+						var phase = harmonic * index * OVERSAMPLING & ANALYSIS_SIZE - 1;
+						synthesis[index] += a * cosines[phase] + b * sines[phase];
+					}
+
+					changed = true;
+				}
+			}
+
+			levels[level] = changed || level == LEVEL_COUNT - 1 ? table(synthesis) : levels[level + 1];
+		}
+	}
+
+	/**
+	 * @param synthesis one period of samples
+	 * @return table of the given samples, with 2 guard samples equal to the first ones, for interpolation and for a
+	 * period fraction rounded to 1.0 when wrapping a negative phase
+	 * @since 0.2.1
+	 */
+	private static float[] table(double[] synthesis) {
+
+		var table = new float[TABLE_SIZE + 2];
+
+		for (var index = 0; index < TABLE_SIZE; index++) {
+			table[index] = (float) synthesis[index];
+		}
+
+		table[TABLE_SIZE] = table[0];
+		table[TABLE_SIZE + 1] = table[1];
+
+		return table;
+	}
+
+	/**
+	 * Chooses the level with the most harmonics that stay below the Nyquist frequency. Above the Nyquist frequency,
+	 * the last level (fundamental only) is returned.
+	 *
+	 * @param periodPercentIncrement period percent increment per sample, that is frequency / sample rate
+	 * @return level to read
+	 * @since 0.2.1
+	 */
+	public int level(double periodPercentIncrement) {
+
+		// the highest harmonic of level l is TABLE_SIZE / 2^(l + 1), it must not exceed 1 / (2 * increment)
+		var level = getExponent(nextDown(abs(periodPercentIncrement) * TABLE_SIZE)) + 1;
+		return min(LEVEL_COUNT - 1, max(0, level));
+	}
+
+	/**
+	 * @param level level to read
+	 * @return table of the given level, {@link #TABLE_SIZE} samples of one period followed by 2 guard samples
+	 * @since 0.2.1
+	 */
+	public float[] table(int level) {
+		return levels[level];
+	}
+
+	/**
+	 * Fills a block of samples from the level matching the highest increment of the block.
+	 *
+	 * @param samples block in which to write the samples
+	 * @param periodFraction period fraction of the first sample, {@code periodFraction ∈ [0.0, 1.0[}
+	 * @param periodFractionIncrements period fraction increment of each sample, that is frequency / sample rate
+	 * @return period fraction following the block, in [0.0, 1.0[
+	 * @since 0.2.1
+	 */
+	public double fill(float[] samples, double periodFraction, double[] periodFractionIncrements) {
+		return fill(samples, 0, samples.length, periodFraction, periodFractionIncrements);
+	}
+
+	/**
+	 * Fills a range of samples from the level matching the highest increment of the range.
+	 *
+	 * @param samples block in which to write the samples
+	 * @param from index of the first sample to write, inclusive
+	 * @param to index of the last sample to write, exclusive
+	 * @param periodFraction period fraction of the first sample, {@code periodFraction ∈ [0.0, 1.0[}
+	 * @param periodFractionIncrements period fraction increment of each sample, that is frequency / sample rate,
+	 * indexed as the samples
+	 * @return period fraction following the range, in [0.0, 1.0[
+	 * @since 0.2.1
+	 */
+	public double fill(float[] samples, int from, int to, double periodFraction, double[] periodFractionIncrements) {
+
+		var maximalIncrement = 0.0;
+
+		for (var sampleIndex = from; sampleIndex < to; sampleIndex++) {
+			maximalIncrement = max(maximalIncrement, abs(periodFractionIncrements[sampleIndex]));
+		}
+
+		var table = levels[level(maximalIncrement)];
+
+		for (var sampleIndex = from; sampleIndex < to; sampleIndex++) {
+
+			samples[sampleIndex] = getSample(table, periodFraction);
+
+			periodFraction += periodFractionIncrements[sampleIndex];
+
+			if (periodFraction >= 1.0 || periodFraction < 0.0) {
+				periodFraction -= floor(periodFraction);
+			}
+		}
+
+		return periodFraction;
+	}
+
+	/**
+	 * Computes 1 sample by linear interpolation.
+	 *
+	 * @param level level to read
+	 * @param periodFraction {@code periodFraction ∈ [0.0, 1.0[}
+	 * @return sample at given fraction of waveform period
+	 * @since 0.2.1
+	 */
+	public float getSample(int level, double periodFraction) {
+		return getSample(levels[level], periodFraction);
+	}
+
+	/**
+	 * Computes 1 sample by linear interpolation.
+	 *
+	 * @param table table to read, given by {@link #table(int)}
+	 * @param periodFraction {@code periodFraction ∈ [0.0, 1.0[}
+	 * @return sample at given fraction of waveform period
+	 * @since 0.2.1
+	 */
+	public static float getSample(float[] table, double periodFraction) {
+
+		var position = periodFraction * TABLE_SIZE;
+		var index = (int) position;
+		var fraction = (float) (position - index);
+
+		return fma(fraction, table[index + 1] - table[index], table[index]);
+	}
+}
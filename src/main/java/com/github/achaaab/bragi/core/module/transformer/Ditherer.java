@@ -3,6 +3,7 @@ package com.github.achaaab.bragi.core.module.transformer;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.Processor;
 import org.slf4j.Logger;
 
 import java.util.concurrent.ThreadLocalRandom;
@@ -13,7 +14,7 @@ import static org.slf4j.LoggerFactory.getLogger;
  * @author Jonathan Guéhenneux
  * @since 0.0.9
  */
-public class Ditherer extends Module {
+public class Ditherer extends Module implements Processor {
 
 	private static final Logger LOGGER = getLogger(Ditherer.class);
 
@@ -46,20 +47,19 @@ public class Ditherer extends Module {
 
 	@Override
 	protected int compute() throws InterruptedException {
+		return compute(this);
+	}
 
-		var inputSamples = input.read();
-		var sampleCount = inputSamples.length;
+	@Override
+	public void process(float[][] inputChunks, float[] outputSamples) {
 
-		var random = ThreadLocalRandom.current();
+		var inputSamples = inputChunks[0];
+		var sampleCount = outputSamples.length;
 
-		var outputSamples = new float[sampleCount];
+		var random = ThreadLocalRandom.current();
 
 		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
 			outputSamples[sampleIndex] = inputSamples[sampleIndex] + random.nextFloat() / 100;
 		}
-
-		output.write(outputSamples);
-
-		return sampleCount;
 	}
 }
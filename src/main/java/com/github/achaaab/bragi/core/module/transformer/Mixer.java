@@ -3,21 +3,25 @@ package com.github.achaaab.bragi.core.module.transformer;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.Kernels;
+import com.github.achaaab.bragi.dsp.Processor;
 import com.github.achaaab.bragi.gui.module.MixerView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
 import static java.lang.Math.pow;
-import static javax.swing.SwingUtilities.invokeAndWait;
+import static java.util.Arrays.fill;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
+ * Mixes 2 inputs. Silent inputs are skipped and, if every input is silent, the mixer writes a silent chunk.
+ *
  * @author Jonathan Guéhenneux
  * @since 0.1.8
  */
-public class Mixer extends Module {
+public class Mixer extends Module implements Processor {
 
 	private static final Logger LOGGER = getLogger(Mixer.class);
 
@@ -59,34 +63,53 @@ public class Mixer extends Module {
 
 		setGain0(-6);
 		setGain1(-6);
+	}
 
-		try {
-			invokeAndWait(() -> view = new MixerView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new MixerView(this);
 	}
 
 	@Override
 	protected int compute() throws InterruptedException {
+		return compute(this);
+	}
 
-		var samples0 = input0.read();
-		var samples1 = input1.read();
+	@Override
+	public void process(float[][] inputChunks, float[] samples) {
+		process(inputChunks, null, samples);
+	}
 
-		var sampleCount = samples0.length;
-		var samples = new float[sampleCount];
+	/**
+	 * Mixes the input blocks, skipping silent ones.
+	 *
+	 * @param inputChunks input samples, the second block is {@code null} if the second input is not connected
+	 * @param inputShapes optional shapes of the input blocks
+	 * @param samples block in which to write the mixed samples
+	 * @return {@link ChunkShape#SILENT} if every input block is silent, {@link ChunkShape#AUDIO} otherwise
+	 * @since 0.2.1
+	 */
+	@Override
+	public ChunkShape process(float[][] inputChunks, ChunkShape[] inputShapes, float[] samples) {
 
-		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+		var samples0 = ChunkShape.get(inputShapes, 0) == ChunkShape.SILENT ? null : inputChunks[0];
+		var samples1 = ChunkShape.get(inputShapes, 1) == ChunkShape.SILENT ? null : inputChunks[1];
 
-			var sample0 = samples0[sampleIndex] * gainFactor0;
-			var sample1 = samples1 == null ? 0 : samples1[sampleIndex] * gainFactor1;
+		if (samples0 == null && samples1 == null) {
 
-			samples[sampleIndex] = sample0 + sample1;
+			fill(samples, 0.0f);
+			return ChunkShape.SILENT;
 		}
 
-		output.write(samples);
+		if (samples1 == null) {
+			Kernels.INSTANCE.scale(samples0, gainFactor0, samples);
+		} else if (samples0 == null) {
+			Kernels.INSTANCE.scale(samples1, gainFactor1, samples);
+		} else {
+			Kernels.INSTANCE.mix(samples0, gainFactor0, samples1, gainFactor1, samples);
+		}
 
-		return sampleCount;
+		return ChunkShape.AUDIO;
 	}
 
 	/**
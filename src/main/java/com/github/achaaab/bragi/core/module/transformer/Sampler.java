@@ -3,6 +3,7 @@ package com.github.achaaab.bragi.core.module.transformer;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.dsp.Processor;
 import org.slf4j.Logger;
 
 import static java.lang.Math.round;
@@ -14,7 +15,7 @@ import static org.slf4j.LoggerFactory.getLogger;
  * @author Jonathan Guéhenneux
  * @since 0.0.9
  */
-public class Sampler extends Module {
+public class Sampler extends Module implements Processor {
 
 	private static final Logger LOGGER = getLogger(Sampler.class);
 
@@ -50,11 +51,14 @@ public class Sampler extends Module {
 
 	@Override
 	public int compute() throws InterruptedException {
+		return compute(this);
+	}
 
-		var inputSamples = input.read();
-		var sampleCount = inputSamples.length;
+	@Override
+	public void process(float[][] inputChunks, float[] outputSamples) {
 
-		var outputSamples = new float[sampleCount];
+		var inputSamples = inputChunks[0];
+		var sampleCount = outputSamples.length;
 
 		var sampleSum = 0.0f;
 		var groupSize = 0;
@@ -77,9 +81,5 @@ public class Sampler extends Module {
 				sampleSum = 0;
 			}
 		}
-
-		output.write(outputSamples);
-
-		return sampleCount;
 	}
 }
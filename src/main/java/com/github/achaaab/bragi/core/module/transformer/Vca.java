@@ -1,34 +1,47 @@
 package com.github.achaaab.bragi.core.module.transformer;
 
+import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.ExponentialModulation;
+import com.github.achaaab.bragi.dsp.Kernels;
+import com.github.achaaab.bragi.dsp.Processor;
 import com.github.achaaab.bragi.gui.module.VcaView;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
-import static java.lang.Math.pow;
-import static javax.swing.SwingUtilities.invokeAndWait;
+import static java.util.Arrays.fill;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
- * Voltage-Controlled Amplifier
+ * Voltage-Controlled Amplifier. Its gain in decibels is {@code initialGain + DECIBELS_PER_VOLT * gain}. A gain at or
+ * below {@link #MINIMAL_DECIBELS} closes the amplifier: its output is silent. While the amplifier is closed or its
+ * input is silent, it writes silent chunks without processing samples.
  *
  * @author Jonathan Guéhenneux
  * @since 0.0.9
  */
-public class Vca extends Module {
+public class Vca extends Module implements Processor {
 
 	private static final Logger LOGGER = getLogger(Vca.class);
 
 	public static final String DEFAULT_NAME = "vca";
 	public static final float DECIBELS_PER_VOLT = 10.0f;
+	public static final float MINIMAL_GAIN = Settings.INSTANCE.minimalVoltage();
+
+	/**
+	 * Gain in decibels at or below which the amplifier is closed, -50 dB: the gain of a {@link #MINIMAL_GAIN} voltage
+	 * with an initial gain of 0 dB, so that an idle envelope closes an amplifier with no initial gain.
+	 */
+	public static final float MINIMAL_DECIBELS = DECIBELS_PER_VOLT * MINIMAL_GAIN;
 
 	private final Input input;
 	private final Input gain;
 	private final Output output;
+	private final ExponentialModulation gainModulation;
 
 	private int initialGain;
 
@@ -53,39 +66,84 @@ public class Vca extends Module {
 		input = addPrimaryInput(name + "_input");
 		gain = addSecondaryInput(name + "_gain");
 		output = addPrimaryOutput(name + "_output");
+		gainModulation = new ExponentialModulation(10.0);
 
 		initialGain = 0;
+	}
 
-		try {
-			invokeAndWait(() -> view = new VcaView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new VcaView(this);
 	}
 
 	@Override
 	public int compute() throws InterruptedException {
+		return compute(this);
+	}
 
-		var inputSamples = input.read();
-		var sampleCount = inputSamples.length;
-		var outputSamples = new float[sampleCount];
+	@Override
+	public void process(float[][] inputChunks, float[] outputSamples) {
+		process(inputChunks, null, outputSamples);
+	}
 
-		var gainSamples = gain.read();
+	/**
+	 * Amplifies the input block. A constant or ramp gain block is converted from decibels without per-sample
+	 * exponentiation.
+	 *
+	 * @param inputChunks input samples and optional gain samples in volts
+	 * @param inputShapes optional shapes of the input and gain blocks
+	 * @param outputSamples block in which to write the amplified samples
+	 * @return {@link ChunkShape#SILENT} if the input is silent or if the amplifier is closed, shape of the input block
+	 * if the gain is constant, {@link ChunkShape#AUDIO} otherwise
+	 * @since 0.2.1
+	 */
+	@Override
+	public ChunkShape process(float[][] inputChunks, ChunkShape[] inputShapes, float[] outputSamples) {
+
+		var inputSamples = inputChunks[0];
+		var gainSamples = inputChunks[1];
+		var inputShape = ChunkShape.get(inputShapes, 0);
+		var gainShape = ChunkShape.get(inputShapes, 1);
+		var sampleCount = outputSamples.length;
+
+		// gain voltage at or below which the gain in decibels is at or below the floor
+		var closingGain = (MINIMAL_DECIBELS - initialGain) / DECIBELS_PER_VOLT;
+
+		var closed = gainSamples == null ?
+				closingGain >= 0.0f :
+				gainShape.isConstant() && gainSamples[0] <= closingGain;
+
+		if (closed || inputShape == ChunkShape.SILENT) {
+
+			fill(outputSamples, 0.0f);
+			return ChunkShape.SILENT;
+		}
+
+		// decibels = initial gain + DECIBELS_PER_VOLT * gain sample, factor = 10 ^ (decibels / 20)
+		gainModulation.prepare(gainSamples, ChunkShape.get(inputShapes, 1),
+				initialGain / 20.0, DECIBELS_PER_VOLT / 20.0);
+
+		if (gainModulation.isConstant()) {
+
+			Kernels.INSTANCE.scale(inputSamples, (float) gainModulation.factor(0), outputSamples);
+			return inputShape;
+		}
 
 		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
 
 			var inputSample = inputSamples[sampleIndex];
-			var gainSample = gainSamples == null ? 0 : gainSamples[sampleIndex];
-			var decibels = initialGain + DECIBELS_PER_VOLT * gainSample;
+			var gainFactor = gainModulation.factor(sampleIndex);
+
+			if (gainSamples != null && gainSamples[sampleIndex] <= closingGain) {
+				gainFactor = 0.0;
+			}
 
-			var outputSample = (float) (inputSample * pow(10.0f, decibels / 20.0f));
+			var outputSample = (float) (inputSample * gainFactor);
 
 			outputSamples[sampleIndex] = outputSample;
 		}
 
-		output.write(outputSamples);
-
-		return sampleCount;
+		return ChunkShape.AUDIO;
 	}
 
 	/**
@@ -5,12 +5,15 @@ import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.connection.Input;
 import com.github.achaaab.bragi.core.connection.Output;
 import com.github.achaaab.bragi.core.module.Module;
-import com.github.achaaab.bragi.core.module.ModuleCreationException;
+import com.github.achaaab.bragi.dsp.ChunkShape;
+import com.github.achaaab.bragi.dsp.ExponentialModulation;
+import com.github.achaaab.bragi.dsp.LadderFilter;
+import com.github.achaaab.bragi.dsp.Processor;
 import com.github.achaaab.bragi.gui.module.VcfView;
 
-import java.lang.reflect.InvocationTargetException;
+import java.awt.Component;
 
-import static javax.swing.SwingUtilities.invokeAndWait;
+import static java.util.Arrays.fill;
 
 /**
  * Voltage-Controlled Filter
@@ -18,10 +21,13 @@ import static javax.swing.SwingUtilities.invokeAndWait;
  * @author Jonathan Guéhenneux
  * @since 0.0.9
  */
-public abstract class Vcf extends Module {
+public abstract class Vcf extends Module implements Processor {
 
 	protected static final double VOLTS_PER_OCTAVE = 5.0;
 
+	// normalized level below which the filter state is considered as decayed, about -120 dB
+	protected static final double SILENCE_THRESHOLD = 1.0e-6;
+
 	protected static final Normalizer NORMALIZER = new Normalizer(
 			Settings.INSTANCE.minimalVoltage(), Settings.INSTANCE.maximalVoltage(),
 			-1.0f, 1.0f);
@@ -29,6 +35,8 @@ public abstract class Vcf extends Module {
 	protected final Input modulation;
 	protected final Input input;
 	protected final Output output;
+	protected final ExponentialModulation cutoffModulation;
+	protected final LadderFilter filter;
 
 	protected float emphasis;
 	protected float cutoffFrequency;
@@ -36,18 +44,8 @@ public abstract class Vcf extends Module {
 
 	protected float[] inputSamples;
 	protected float[] modulationSamples;
-	protected float modulationSample;
 	protected float[] outputSamples;
 
-	protected double y1;
-	protected double y2;
-	protected double y3;
-	protected double y4;
-	protected double oldX;
-	protected double oldY1;
-	protected double oldY2;
-	protected double oldY3;
-
 	/**
 	 * @param name name of the VCF to create
 	 * @since 0.0.9
@@ -59,37 +57,76 @@ public abstract class Vcf extends Module {
 		input = addPrimaryInput(name + "_input");
 		modulation = addSecondaryInput(name + "_modulation");
 		output = addPrimaryOutput(name + "_output");
+		cutoffModulation = new ExponentialModulation(2.0);
+		filter = new LadderFilter();
 
 		emphasis = 0.5f;
 		cutoffFrequency = 440.0f;
+	}
 
-		y1 = 0.0;
-		y2 = 0.0;
-		y3 = 0.0;
-		y4 = 0.0;
-		oldX = 0.0;
-		oldY1 = 0.0;
-		oldY2 = 0.0;
-		oldY3 = 0.0;
-
-		try {
-			invokeAndWait(() -> view = new VcfView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new ModuleCreationException(cause);
-		}
+	@Override
+	protected Component createView() {
+		return new VcfView(this);
 	}
 
 	@Override
 	public int compute() throws InterruptedException {
+		return compute(this);
+	}
+
+	@Override
+	public void process(float[][] inputChunks, float[] outputChunk) {
+		process(inputChunks, null, outputChunk);
+	}
+
+	/**
+	 * Filters the input block. With a constant modulation block, the filter is tuned once per block instead of once
+	 * per sample. A silent input block is filtered until the filter state has decayed, then the filter is bypassed
+	 * and writes silent blocks.
+	 *
+	 * @param inputChunks input samples and optional modulation samples in volts
+	 * @param inputShapes optional shapes of the input and modulation blocks
+	 * @param outputChunk block in which to write the filtered samples
+	 * @return {@link ChunkShape#SILENT} if the filter was bypassed, {@link ChunkShape#AUDIO} otherwise
+	 * @since 0.2.1
+	 */
+	@Override
+	public ChunkShape process(float[][] inputChunks, ChunkShape[] inputShapes, float[] outputChunk) {
+
+		if (ChunkShape.get(inputShapes, 0) == ChunkShape.SILENT && filter.isDecayed(SILENCE_THRESHOLD)) {
 
-		inputSamples = input.read();
-		modulationSamples = modulation.read();
+			filter.reset();
+			fill(outputChunk, 0.0f);
+
+			return ChunkShape.SILENT;
+		}
+
+		inputSamples = inputChunks[0];
+		modulationSamples = inputChunks[1];
+		outputSamples = outputChunk;
+
+		cutoffModulation.prepare(modulationSamples, ChunkShape.get(inputShapes, 1), 0.0, 1.0);
 
 		filterSamples();
 
-		output.write(outputSamples);
+		return ChunkShape.AUDIO;
+	}
 
-		return inputSamples.length;
+	/**
+	 * Tunes the filter for the given sample, from the modulated cutoff frequency. Must be called for every sample, in
+	 * order. The filter is only tuned for the first sample when the modulation is constant.
+	 *
+	 * @param sampleIndex index of the sample to filter
+	 * @param nyquistFrequency Nyquist frequency in hertz
+	 * @since 0.2.1
+	 */
+	protected void tune(int sampleIndex, double nyquistFrequency) {
+
+		if (sampleIndex == 0 || !cutoffModulation.isConstant()) {
+
+			actualCutoffFrequency = cutoffFrequency * cutoffModulation.factor(sampleIndex);
+			filter.tune(actualCutoffFrequency, nyquistFrequency, emphasis);
+		}
 	}
 
 	/**
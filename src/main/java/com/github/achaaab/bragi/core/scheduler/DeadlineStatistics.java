@@ -0,0 +1,39 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+/**
+ * Deadline statistics of a graph hosted by a {@link SynthesizerHost}. Times are in nanoseconds (ns).
+ *
+ * @param period chunk period of the graph, that is the duration of a chunk
+ * @param periodCount number of computed periods
+ * @param missedDeadlineCount number of periods computed after their deadline
+ * @param maximalLateness longest delay between the deadline of a period and the end of its computing, {@code 0} if
+ * no deadline was missed
+ * @param computeTime total time spent computing the graph
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public record DeadlineStatistics(
+
+		long period,
+		long periodCount,
+		long missedDeadlineCount,
+		long maximalLateness,
+		long computeTime) {
+
+	/**
+	 * @return ratio of periods computed after their deadline, {@code 0.0} if no period was computed
+	 * @since 0.2.1
+	 */
+	public double missedDeadlineRatio() {
+		return periodCount == 0 ? 0.0 : (double) missedDeadlineCount / periodCount;
+	}
+
+	/**
+	 * @return mean compute time of a period divided by the period, a graph with a load greater than 1 cannot run in
+	 * real time, {@code 0.0} if no period was computed
+	 * @since 0.2.1
+	 */
+	public double load() {
+		return periodCount == 0 ? 0.0 : (double) computeTime / periodCount / period;
+	}
+}
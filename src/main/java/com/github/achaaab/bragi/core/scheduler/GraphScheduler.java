@@ -0,0 +1,148 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+import com.github.achaaab.bragi.core.module.Module;
+import org.slf4j.Logger;
+
+import static java.lang.Math.round;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.sleep;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Pull-based scheduler computing every module on a single audio thread. At each period, modules compute 1 chunk each,
+ * in topological order, so that a module never waits for a chunk nor for available space.
+ * This removes the hand-offs and wake-ups between module threads from the hot path.
+ * <p>
+ * A module blocking in its computing (a paused player for example) blocks the whole graph. A failing module stops the
+ * scheduler, the failure is logged.
+ *
+ * @author Jonathan Guéhenneux
+ * @see ModuleGraph
+ * @since 0.2.1
+ */
+public class GraphScheduler implements Scheduler, Runnable {
+
+	private static final Logger LOGGER = getLogger(GraphScheduler.class);
+
+	private static final String THREAD_NAME = "graph_scheduler";
+
+	protected final ModuleGraph graph;
+
+	private Thread thread;
+	private volatile boolean running;
+
+	/**
+	 * Creates a scheduler computing every module on a single audio thread.
+	 *
+	 * @since 0.2.1
+	 */
+	public GraphScheduler() {
+
+		graph = new ModuleGraph();
+
+		thread = null;
+		running = false;
+	}
+
+	@Override
+	public synchronized void schedule(Module module) {
+
+		module.startScheduled();
+		graph.add(module);
+
+		if (thread == null) {
+
+			running = true;
+			thread = new Thread(this, THREAD_NAME);
+			thread.start();
+		}
+	}
+
+	/**
+	 * Shuts every scheduled module down, then interrupts the audio thread, so that it exits even if it is waiting.
+	 *
+	 * @since 0.2.1
+	 */
+	@Override
+	public synchronized void stop() {
+
+		running = false;
+		graph.modules().forEach(Module::shutdown);
+
+		if (thread != null) {
+			thread.interrupt();
+		}
+	}
+
+	@Override
+	public void run() {
+
+		while (running) {
+
+			try {
+
+				graph.update();
+
+				var startTime = nanoTime();
+				var computedFrameCount = computePeriod();
+
+				waitComputeTime(startTime, computedFrameCount);
+
+			} catch (InterruptedException cause) {
+
+				if (running) {
+
+					LOGGER.error("graph scheduler interrupted, it is stopped", cause);
+					stop();
+				}
+
+			} catch (RuntimeException cause) {
+
+				LOGGER.error("graph computing failed, the graph scheduler is stopped", cause);
+				stop();
+			}
+		}
+
+		LOGGER.info("graph scheduler stopped");
+	}
+
+	/**
+	 * Computes 1 chunk for each runnable module of the graph.
+	 *
+	 * @return maximal number of frames computed by a module
+	 * @throws InterruptedException if interrupted while computing
+	 * @since 0.2.1
+	 */
+	protected int computePeriod() throws InterruptedException {
+		return graph.compute();
+	}
+
+	/**
+	 * Sleeps if necessary until the computing frame rate of the graph is respected.
+	 *
+	 * @param startTime compute start nano-time
+	 * @param computedFrameCount number of computed frames
+	 * @throws InterruptedException if the current thread is interrupted while waiting for compute time
+	 * @since 0.2.1
+	 */
+	private void waitComputeTime(long startTime, int computedFrameCount) throws InterruptedException {
+
+		var computingFrameRate = graph.computingFrameRate();
+
+		if (computingFrameRate > 0.0) {
+
+			var duration = nanoTime() - startTime;
+			var expectedDuration = round(1_000_000_000L * computedFrameCount / computingFrameRate);
+
+			if (duration < expectedDuration) {
+
+				var waitTime = expectedDuration - duration;
+				sleep(waitTime / 1_000_000, (int) (waitTime % 1_000_000));
+
+			} else {
+
+				LOGGER.warn("computing rate lower than configured");
+			}
+		}
+	}
+}
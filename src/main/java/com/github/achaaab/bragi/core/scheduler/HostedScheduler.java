@@ -0,0 +1,203 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+import com.github.achaaab.bragi.core.module.Module;
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.Math.max;
+import static java.lang.Math.round;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Scheduler of a synthesizer hosted by a {@link SynthesizerHost}. It does not own any thread: the workers of the host
+ * compute its graph 1 period at a time, when its deadline is the earliest one.
+ * <p>
+ * The deadline of a period is the end of the chunk computed during this period. When a deadline is missed, the next
+ * deadline is rebased from the end of the late computing instead of being kept in the past. A graph slower than real
+ * time is thus computed as fast as possible but never ahead of the graphs which are on time.
+ *
+ * @author Jonathan Guéhenneux
+ * @see SynthesizerHost
+ * @since 0.2.1
+ */
+public class HostedScheduler implements Scheduler {
+
+	private static final Logger LOGGER = getLogger(HostedScheduler.class);
+
+	private final SynthesizerHost host;
+	private final ModuleGraph graph;
+	private final long period;
+	private final Object workerLock;
+
+	private final AtomicLong periodCount;
+	private final AtomicLong missedDeadlineCount;
+	private final AtomicLong maximalLateness;
+	private final AtomicLong computeTime;
+
+	private long deadline;
+	private boolean submitted;
+	private volatile boolean running;
+	private Thread worker;
+
+	/**
+	 * @param host host whose workers compute the graph of this scheduler
+	 * @param chunkSize number of frames computed per period
+	 * @param frameRate number of frames per second
+	 * @since 0.2.1
+	 */
+	HostedScheduler(SynthesizerHost host, int chunkSize, int frameRate) {
+
+		this.host = host;
+
+		graph = new ModuleGraph();
+		period = round(1_000_000_000.0 * chunkSize / frameRate);
+		workerLock = new Object();
+
+		periodCount = new AtomicLong();
+		missedDeadlineCount = new AtomicLong();
+		maximalLateness = new AtomicLong();
+		computeTime = new AtomicLong();
+
+		deadline = 0;
+		submitted = false;
+		running = true;
+		worker = null;
+	}
+
+	@Override
+	public synchronized void schedule(Module module) {
+
+		module.startScheduled();
+		graph.add(module);
+
+		if (!submitted && running) {
+
+			submitted = true;
+			deadline = nanoTime() + period;
+			host.submit(this);
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+
+		running = false;
+		host.unregister(this);
+		graph.modules().forEach(Module::shutdown);
+
+		// the worker is interrupted only while it is computing this graph
+		synchronized (workerLock) {
+
+			if (worker != null) {
+				worker.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * @return whether this scheduler is not stopped
+	 * @since 0.2.1
+	 */
+	boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * @return deadline of the next period, as a nano-time
+	 * @since 0.2.1
+	 */
+	long deadline() {
+		return deadline;
+	}
+
+	/**
+	 * @return nano-time from which the next period can be computed, so that the graph does not run ahead of time
+	 * @since 0.2.1
+	 */
+	long releaseTime() {
+		return deadline - period;
+	}
+
+	/**
+	 * Computes the next period on the calling worker and updates the deadline. A failing graph is stopped and
+	 * logged, so that it cannot take down the worker computing it.
+	 *
+	 * @since 0.2.1
+	 */
+	void computePeriod() {
+
+		synchronized (workerLock) {
+			worker = currentThread();
+		}
+
+		try {
+
+			if (running && graph.refresh()) {
+
+				var startTime = nanoTime();
+				graph.compute();
+				var endTime = nanoTime();
+
+				computeTime.addAndGet(endTime - startTime);
+				periodCount.incrementAndGet();
+
+				var lateness = endTime - deadline;
+
+				if (lateness > 0) {
+
+					missedDeadlineCount.incrementAndGet();
+					maximalLateness.accumulateAndGet(lateness, Math::max);
+					deadline = endTime + period;
+
+				} else {
+
+					deadline += period;
+				}
+
+			} else {
+
+				deadline = max(deadline, nanoTime()) + period;
+			}
+
+		} catch (InterruptedException cause) {
+
+			if (running) {
+
+				LOGGER.error("hosted graph interrupted, it is stopped", cause);
+				stop();
+			}
+
+		} catch (RuntimeException cause) {
+
+			LOGGER.error("hosted graph failed, it is stopped", cause);
+			stop();
+
+		} finally {
+
+			synchronized (workerLock) {
+
+				worker = null;
+
+				// the interruption was addressed to this graph, not to the worker
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * @return deadline statistics of this scheduler
+	 * @since 0.2.1
+	 */
+	public DeadlineStatistics statistics() {
+
+		return new DeadlineStatistics(
+				period,
+				periodCount.get(),
+				missedDeadlineCount.get(),
+				maximalLateness.get(),
+				computeTime.get());
+	}
+}
@@ -0,0 +1,333 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+import com.github.achaaab.bragi.core.connection.Buffer;
+import com.github.achaaab.bragi.core.connection.Chunk;
+import com.github.achaaab.bragi.core.module.Module;
+import org.slf4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Graph of modules, sorted topologically so that each module can compute its chunk after the modules it reads from.
+ * <p>
+ * Only complete parts of the graph are runnable: a module is runnable when all the modules connected to its inputs
+ * and outputs are also in the graph, otherwise it would wait forever for a chunk or for available space.
+ * <p>
+ * Cycles are broken with a 1-chunk delay: the buffer closing the cycle is primed with a silent chunk,
+ * so that its input reads the chunk written during the previous period.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ModuleGraph {
+
+	private static final Logger LOGGER = getLogger(ModuleGraph.class);
+
+	private final Set<Module> modules;
+	private final Set<Buffer> delayedBuffers;
+
+	private List<Module> order;
+	private int[][] successors;
+	private int[] predecessorCounts;
+	private boolean changed;
+
+	/**
+	 * Creates an empty graph.
+	 *
+	 * @since 0.2.1
+	 */
+	public ModuleGraph() {
+
+		modules = new LinkedHashSet<>();
+		delayedBuffers = new HashSet<>();
+
+		order = List.of();
+		successors = new int[0][];
+		predecessorCounts = new int[0];
+		changed = false;
+	}
+
+	/**
+	 * Adds a module to this graph. The computing order will be updated at next {@link #update()}.
+	 *
+	 * @param module module to add
+	 * @since 0.2.1
+	 */
+	public synchronized void add(Module module) {
+
+		modules.add(module);
+		changed = true;
+		notifyAll();
+	}
+
+	/**
+	 * Updates the computing order if modules were added since the last update.
+	 * Waits until there is at least 1 runnable module.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for a runnable module
+	 * @since 0.2.1
+	 */
+	public synchronized void update() throws InterruptedException {
+
+		while (!refresh()) {
+			wait();
+		}
+	}
+
+	/**
+	 * Updates the computing order if modules were added since the last update, without waiting.
+	 *
+	 * @return whether there is at least 1 runnable module
+	 * @since 0.2.1
+	 */
+	public synchronized boolean refresh() {
+
+		if (changed) {
+
+			sort();
+			changed = false;
+		}
+
+		return !order.isEmpty();
+	}
+
+	/**
+	 * @return every module added to this graph, runnable or not
+	 * @since 0.2.1
+	 */
+	public synchronized List<Module> modules() {
+		return List.copyOf(modules);
+	}
+
+	/**
+	 * @return runnable modules in computing order
+	 * @since 0.2.1
+	 */
+	public synchronized List<Module> order() {
+		return order;
+	}
+
+	/**
+	 * Dependencies of a module in the current period. Buffers delayed to break cycles are not dependencies.
+	 *
+	 * @param moduleIndex index of a module in computing order
+	 * @return indices of the modules reading chunks written by the given module during the same period
+	 * @see #order()
+	 * @since 0.2.1
+	 */
+	public synchronized int[] successors(int moduleIndex) {
+		return successors[moduleIndex];
+	}
+
+	/**
+	 * @param moduleIndex index of a module in computing order
+	 * @return number of modules that must compute their chunks before the given module during a period
+	 * @see #order()
+	 * @since 0.2.1
+	 */
+	public synchronized int predecessorCount(int moduleIndex) {
+		return predecessorCounts[moduleIndex];
+	}
+
+	/**
+	 * Computes 1 chunk for each runnable module, in computing order, on the calling thread.
+	 *
+	 * @return maximal number of frames computed by a module
+	 * @throws InterruptedException if interrupted while computing
+	 * @since 0.2.1
+	 */
+	public int compute() throws InterruptedException {
+
+		var frameCount = 0;
+
+		for (var module : order()) {
+			frameCount = max(frameCount, module.computeChunk());
+		}
+
+		return frameCount;
+	}
+
+	/**
+	 * @return lowest computing frame rate among the runnable modules, {@code 0.0} for maximal speed computing
+	 * @since 0.2.1
+	 */
+	public double computingFrameRate() {
+
+		var computingFrameRate = 0.0;
+
+		for (var module : order()) {
+
+			var moduleFrameRate = module.getComputingFrameRate();
+
+			if (moduleFrameRate > 0.0) {
+
+				computingFrameRate = computingFrameRate == 0.0 ?
+						moduleFrameRate :
+						min(computingFrameRate, moduleFrameRate);
+			}
+		}
+
+		return computingFrameRate;
+	}
+
+	/**
+	 * Sorts topologically the runnable modules.
+	 *
+	 * @since 0.2.1
+	 */
+	private void sort() {
+
+		var runnableModules = runnableModules();
+
+		var visiting = new HashSet<Module>();
+		var visited = new HashSet<Module>();
+		var sortedModules = new ArrayDeque<Module>();
+
+		// sources first, so that cycles are broken as far as possible from them
+		for (var module : runnableModules) {
+
+			if (module.inputModules().isEmpty()) {
+				visit(module, runnableModules, visiting, visited, sortedModules);
+			}
+		}
+
+		for (var module : runnableModules) {
+
+			if (!visited.contains(module)) {
+				visit(module, runnableModules, visiting, visited, sortedModules);
+			}
+		}
+
+		order = List.copyOf(sortedModules);
+
+		linkDependencies(runnableModules);
+
+		LOGGER.info("computing order: {}", order);
+	}
+
+	/**
+	 * Computes the successors and the predecessor counts of the sorted modules.
+	 *
+	 * @param runnableModules sorted modules
+	 * @since 0.2.1
+	 */
+	private void linkDependencies(Set<Module> runnableModules) {
+
+		var moduleCount = order.size();
+
+		successors = new int[moduleCount][];
+		predecessorCounts = new int[moduleCount];
+
+		for (var moduleIndex = 0; moduleIndex < moduleCount; moduleIndex++) {
+
+			var moduleSuccessors = new LinkedHashSet<Integer>();
+
+			for (var buffer : outputBuffers(order.get(moduleIndex))) {
+
+				var successor = buffer.input().module();
+
+				if (runnableModules.contains(successor) && !delayedBuffers.contains(buffer)) {
+					moduleSuccessors.add(order.indexOf(successor));
+				}
+			}
+
+			successors[moduleIndex] = moduleSuccessors.stream().mapToInt(Integer::intValue).toArray();
+
+			for (var successorIndex : successors[moduleIndex]) {
+				predecessorCounts[successorIndex]++;
+			}
+		}
+	}
+
+	/**
+	 * Depth-first visit of the given module, following its output connections.
+	 *
+	 * @param module module to visit
+	 * @param runnableModules modules to sort
+	 * @param visiting modules being visited
+	 * @param visited modules already visited
+	 * @param sortedModules sorted modules, in reverse postorder
+	 * @since 0.2.1
+	 */
+	private void visit(Module module, Set<Module> runnableModules,
+			Set<Module> visiting, Set<Module> visited, ArrayDeque<Module> sortedModules) {
+
+		visiting.add(module);
+
+		for (var buffer : outputBuffers(module)) {
+
+			var successor = buffer.input().module();
+
+			if (runnableModules.contains(successor) && !delayedBuffers.contains(buffer)) {
+
+				if (visiting.contains(successor)) {
+					delay(buffer);
+				} else if (!visited.contains(successor)) {
+					visit(successor, runnableModules, visiting, visited, sortedModules);
+				}
+			}
+		}
+
+		visiting.remove(module);
+		visited.add(module);
+		sortedModules.addFirst(module);
+	}
+
+	/**
+	 * Breaks a cycle by priming the given buffer with a silent chunk.
+	 *
+	 * @param buffer buffer closing a cycle
+	 * @since 0.2.1
+	 */
+	private void delay(Buffer buffer) {
+
+		LOGGER.info("cycle broken with a 1-chunk delay from {} to {}", buffer.output(), buffer.input());
+
+		delayedBuffers.add(buffer);
+		buffer.tryWrite(Chunk.wrap(new float[buffer.output().module().settings().chunkSize()]));
+	}
+
+	/**
+	 * @return modules whose every connected module is also in this graph
+	 * @since 0.2.1
+	 */
+	private Set<Module> runnableModules() {
+
+		var runnableModules = new LinkedHashSet<>(modules);
+		var removed = true;
+
+		while (removed) {
+
+			removed = runnableModules.removeIf(module ->
+					!runnableModules.containsAll(module.inputModules()) ||
+							!runnableModules.containsAll(module.outputModules()));
+		}
+
+		return runnableModules;
+	}
+
+	/**
+	 * @param module module
+	 * @return buffers written by the outputs of the given module
+	 * @since 0.2.1
+	 */
+	private static List<Buffer> outputBuffers(Module module) {
+
+		var buffers = new ArrayList<Buffer>();
+
+		for (var output : module.outputs()) {
+			buffers.addAll(output.buffers());
+		}
+
+		return buffers;
+	}
+}
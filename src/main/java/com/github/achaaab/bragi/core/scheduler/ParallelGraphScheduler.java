@@ -0,0 +1,304 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.core.module.ModuleExecutionException;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static java.lang.Math.max;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.unpark;
+
+/**
+ * Graph scheduler dispatching the modules on a work-stealing pool. At each period, a module is dispatched as soon as
+ * all the modules it reads from have computed their chunks, so that independent branches of the graph are computed
+ * at the same time and merge points (mixers, speakers...) wait for all their branches.
+ * Throughput scales with the number of cores instead of the number of modules.
+ * <p>
+ * When a module fails, the modules not computed yet in the period are skipped, but still dispatched, so that the
+ * period settles before the failure is reported and no task is left running on the pool.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ParallelGraphScheduler extends GraphScheduler {
+
+	private final ForkJoinPool pool;
+	private final boolean ownedPool;
+
+	private final AtomicInteger remainingModuleCount;
+
+	private List<Module> order;
+	private volatile ModuleTask[] tasks;
+	private AtomicIntegerArray pendingPredecessorCounts;
+
+	private volatile Thread driver;
+	private volatile RuntimeException failure;
+
+	/**
+	 * Creates a parallel graph scheduler with a pool sized to the number of available processors.
+	 *
+	 * @since 0.2.1
+	 */
+	public ParallelGraphScheduler() {
+		this(new ForkJoinPool(), true);
+	}
+
+	/**
+	 * Creates a parallel graph scheduler using the given pool. The pool is not shut down by {@link #stop()}.
+	 *
+	 * @param pool work-stealing pool on which to compute the modules
+	 * @since 0.2.1
+	 */
+	public ParallelGraphScheduler(ForkJoinPool pool) {
+		this(pool, false);
+	}
+
+	/**
+	 * @param pool work-stealing pool on which to compute the modules
+	 * @param ownedPool whether the pool must be shut down with this scheduler
+	 * @since 0.2.1
+	 */
+	private ParallelGraphScheduler(ForkJoinPool pool, boolean ownedPool) {
+
+		this.pool = pool;
+		this.ownedPool = ownedPool;
+
+		remainingModuleCount = new AtomicInteger();
+
+		order = null;
+		tasks = null;
+		pendingPredecessorCounts = null;
+	}
+
+	/**
+	 * Stops this scheduler, then interrupts the workers computing a module, so that a worker waiting in a buffer
+	 * exits even if the pool is not owned by this scheduler.
+	 *
+	 * @since 0.2.1
+	 */
+	@Override
+	public synchronized void stop() {
+
+		super.stop();
+
+		var currentTasks = tasks;
+
+		if (currentTasks != null) {
+
+			for (var task : currentTasks) {
+				task.interrupt();
+			}
+		}
+
+		if (ownedPool) {
+			pool.shutdownNow();
+		}
+	}
+
+	@Override
+	protected int computePeriod() throws InterruptedException {
+
+		var graphOrder = graph.order();
+
+		if (graphOrder != order) {
+			createTasks(graphOrder);
+		}
+
+		var moduleCount = tasks.length;
+
+		driver = currentThread();
+		failure = null;
+		remainingModuleCount.set(moduleCount);
+
+		for (var moduleIndex = 0; moduleIndex < moduleCount; moduleIndex++) {
+			pendingPredecessorCounts.set(moduleIndex, graph.predecessorCount(moduleIndex));
+		}
+
+		for (var moduleIndex = 0; moduleIndex < moduleCount; moduleIndex++) {
+
+			if (graph.predecessorCount(moduleIndex) == 0) {
+				pool.execute(tasks[moduleIndex]);
+			}
+		}
+
+		// even after a failure, every task settles, computed or skipped, before the period ends
+		while (remainingModuleCount.get() > 0) {
+
+			park(this);
+
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+
+		var frameCount = 0;
+
+		for (var task : tasks) {
+			frameCount = max(frameCount, task.frameCount);
+		}
+
+		return frameCount;
+	}
+
+	/**
+	 * Creates 1 reusable task per module of the given order.
+	 *
+	 * @param graphOrder modules in computing order
+	 * @since 0.2.1
+	 */
+	private void createTasks(List<Module> graphOrder) {
+
+		var moduleCount = graphOrder.size();
+
+		order = graphOrder;
+		tasks = new ModuleTask[moduleCount];
+		pendingPredecessorCounts = new AtomicIntegerArray(moduleCount);
+
+		for (var moduleIndex = 0; moduleIndex < moduleCount; moduleIndex++) {
+			tasks[moduleIndex] = new ModuleTask(graphOrder.get(moduleIndex), graph.successors(moduleIndex));
+		}
+	}
+
+	/**
+	 * Task computing 1 chunk of a module, then dispatching the successors which are ready. Once a module of the period
+	 * has failed, the task skips the computing but still dispatches the successors.
+	 * <p>
+	 * The task is reused at each period: {@link #exec()} never reports completion, so the task stays forkable
+	 * without being reinitialized.
+	 *
+	 * @author Jonathan Guéhenneux
+	 * @since 0.2.1
+	 */
+	private class ModuleTask extends ForkJoinTask<Void> {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final transient Module module;
+		private final int[] successors;
+		private final transient Object workerLock;
+
+		private transient Thread worker;
+		private int frameCount;
+
+		/**
+		 * @param module module to compute
+		 * @param successors indices of the modules reading from the given module
+		 * @since 0.2.1
+		 */
+		private ModuleTask(Module module, int[] successors) {
+
+			this.module = module;
+			this.successors = successors;
+
+			workerLock = new Object();
+			worker = null;
+		}
+
+		@Override
+		protected boolean exec() {
+
+			if (failure == null) {
+				compute();
+			}
+
+			var periodTasks = tasks;
+
+			for (var successorIndex : successors) {
+
+				if (pendingPredecessorCounts.decrementAndGet(successorIndex) == 0) {
+					periodTasks[successorIndex].fork();
+				}
+			}
+
+			if (remainingModuleCount.decrementAndGet() == 0) {
+				unpark(driver);
+			}
+
+			return false;
+		}
+
+		/**
+		 * Computes 1 chunk of the module, recording a failure for the driver thread.
+		 *
+		 * @since 0.2.1
+		 */
+		private void compute() {
+
+			synchronized (workerLock) {
+				worker = currentThread();
+			}
+
+			try {
+
+				frameCount = module.computeChunk();
+
+			} catch (InterruptedException cause) {
+
+				fail(new ModuleExecutionException(cause));
+
+			} catch (RuntimeException cause) {
+
+				fail(cause);
+
+			} finally {
+
+				// an interruption aimed at this task must not leak to the next task of the pool worker
+				synchronized (workerLock) {
+
+					worker = null;
+					Thread.interrupted();
+				}
+			}
+		}
+
+		/**
+		 * Interrupts the worker computing the module, if any.
+		 *
+		 * @since 0.2.1
+		 */
+		private void interrupt() {
+
+			synchronized (workerLock) {
+
+				if (worker != null) {
+					worker.interrupt();
+				}
+			}
+		}
+
+		/**
+		 * Records the first failure of the period. The driver thread reports it once the period has settled.
+		 *
+		 * @param cause cause of the failure
+		 * @since 0.2.1
+		 */
+		private void fail(RuntimeException cause) {
+
+			if (failure == null) {
+				failure = cause;
+			}
+		}
+
+		@Override
+		public Void getRawResult() {
+			return null;
+		}
+
+		@Override
+		protected void setRawResult(Void value) {
+
+		}
+	}
+}
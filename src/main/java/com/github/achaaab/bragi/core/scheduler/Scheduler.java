@@ -0,0 +1,27 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+import com.github.achaaab.bragi.core.module.Module;
+
+/**
+ * A scheduler decides how and on which threads the modules of a synthesizer compute their chunks.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public interface Scheduler {
+
+	/**
+	 * Starts the computing of the given module. The module is already bound to its synthesizer.
+	 *
+	 * @param module module to schedule
+	 * @since 0.2.1
+	 */
+	void schedule(Module module);
+
+	/**
+	 * Stops the computing of every scheduled module.
+	 *
+	 * @since 0.2.1
+	 */
+	void stop();
+}
@@ -0,0 +1,291 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+import com.github.achaaab.bragi.common.Settings;
+import com.github.achaaab.bragi.core.Synthesizer;
+import com.github.achaaab.bragi.core.ViewFactory;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.System.nanoTime;
+import static java.util.Comparator.comparingLong;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Hosts many independent synthesizers on a fixed pool of worker threads, sized to the number of cores by default.
+ * Hosted synthesizers are headless by default and each one computes its graph 1 period at a time on any worker.
+ * <p>
+ * Workers pick the graph with the earliest deadline (EDF). A graph is never computed ahead of real time: its next
+ * period is released 1 chunk period before its deadline. A graph is computed by 1 worker at a time and a late graph
+ * has its deadline rebased, so that a slow graph occupies at most 1 worker and cannot starve the others. Missed
+ * deadlines are reported per graph by {@link #statistics()}, as long as the graph is running: a stopped or failed
+ * graph is no longer hosted.
+ * <p>
+ * A module blocking in its computing (a paused player for example) blocks the worker computing its graph.
+ *
+ * @author Jonathan Guéhenneux
+ * @see HostedScheduler
+ * @since 0.2.1
+ */
+public class SynthesizerHost {
+
+	private static final Logger LOGGER = getLogger(SynthesizerHost.class);
+
+	private static final String WORKER_NAME = "synthesizer_host_worker_";
+
+	private final PriorityQueue<HostedScheduler> queue;
+	private final ReentrantLock lock;
+	private final Condition queueChanged;
+	private final Map<Synthesizer, HostedScheduler> schedulers;
+	private final List<Thread> workers;
+
+	private volatile boolean running;
+
+	/**
+	 * Creates a host with 1 worker per available processor.
+	 *
+	 * @since 0.2.1
+	 */
+	public SynthesizerHost() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a host and starts its workers.
+	 *
+	 * @param workerCount number of worker threads
+	 * @since 0.2.1
+	 */
+	public SynthesizerHost(int workerCount) {
+
+		queue = new PriorityQueue<>(comparingLong(HostedScheduler::deadline));
+		lock = new ReentrantLock();
+		queueChanged = lock.newCondition();
+		schedulers = new LinkedHashMap<>();
+		workers = new ArrayList<>(workerCount);
+
+		running = true;
+
+		for (var workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+
+			var worker = new Thread(this::work, WORKER_NAME + workerIndex);
+			workers.add(worker);
+			worker.start();
+		}
+
+		LOGGER.info("synthesizer host started with {} workers", workerCount);
+	}
+
+	/**
+	 * Creates a headless synthesizer with default settings, hosted by this host.
+	 *
+	 * @return created synthesizer
+	 * @since 0.2.1
+	 */
+	public Synthesizer createSynthesizer() {
+		return createSynthesizer(Settings.INSTANCE);
+	}
+
+	/**
+	 * Creates a headless synthesizer hosted by this host.
+	 *
+	 * @param settings settings of the synthesizer to create, its chunk period is the period of its deadlines
+	 * @return created synthesizer
+	 * @since 0.2.1
+	 */
+	public Synthesizer createSynthesizer(Settings settings) {
+		return createSynthesizer(settings, ViewFactory.HEADLESS);
+	}
+
+	/**
+	 * Creates a synthesizer hosted by this host.
+	 *
+	 * @param settings settings of the synthesizer to create, its chunk period is the period of its deadlines
+	 * @param viewFactory factory creating the views of the synthesizer to create
+	 * @return created synthesizer
+	 * @since 0.2.1
+	 */
+	public Synthesizer createSynthesizer(Settings settings, ViewFactory viewFactory) {
+
+		var scheduler = new HostedScheduler(this, settings.chunkSize(), settings.frameRate());
+		var synthesizer = new Synthesizer(scheduler, viewFactory, settings);
+
+		synchronized (schedulers) {
+			schedulers.put(synthesizer, scheduler);
+		}
+
+		return synthesizer;
+	}
+
+	/**
+	 * Stops the given synthesizer, if it is hosted by this host. Its graph is no longer computed and it no longer
+	 * appears in the {@link #statistics()}.
+	 *
+	 * @param synthesizer synthesizer to remove
+	 * @since 0.2.1
+	 */
+	public void remove(Synthesizer synthesizer) {
+
+		HostedScheduler scheduler;
+
+		synchronized (schedulers) {
+			scheduler = schedulers.remove(synthesizer);
+		}
+
+		if (scheduler != null) {
+			synthesizer.stop();
+		}
+	}
+
+	/**
+	 * Stops hosting the synthesizer of the given scheduler. Called when the scheduler stops, whatever the reason.
+	 *
+	 * @param scheduler stopped scheduler
+	 * @since 0.2.1
+	 */
+	void unregister(HostedScheduler scheduler) {
+
+		synchronized (schedulers) {
+			schedulers.values().remove(scheduler);
+		}
+	}
+
+	/**
+	 * @return deadline statistics of every running synthesizer hosted by this host, in creation order
+	 * @since 0.2.1
+	 */
+	public Map<Synthesizer, DeadlineStatistics> statistics() {
+
+		var statistics = new LinkedHashMap<Synthesizer, DeadlineStatistics>();
+
+		synchronized (schedulers) {
+			schedulers.forEach((synthesizer, scheduler) -> statistics.put(synthesizer, scheduler.statistics()));
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Stops every hosted synthesizer and the workers of this host.
+	 *
+	 * @since 0.2.1
+	 */
+	public void shutdown() {
+
+		running = false;
+
+		List<Synthesizer> synthesizers;
+
+		// stopping a synthesizer unregisters it, the synthesizers are copied first
+		synchronized (schedulers) {
+			synthesizers = List.copyOf(schedulers.keySet());
+		}
+
+		synthesizers.forEach(Synthesizer::stop);
+
+		workers.forEach(Thread::interrupt);
+
+		LOGGER.info("synthesizer host stopped");
+	}
+
+	/**
+	 * Queues a graph until its next period is computed.
+	 *
+	 * @param scheduler scheduler of the graph to queue
+	 * @since 0.2.1
+	 */
+	void submit(HostedScheduler scheduler) {
+
+		lock.lock();
+
+		try {
+
+			queue.add(scheduler);
+			queueChanged.signal();
+
+		} finally {
+
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Worker loop: takes the graph with the earliest deadline once its period is released, computes it and queues it
+	 * again.
+	 *
+	 * @since 0.2.1
+	 */
+	private void work() {
+
+		while (running) {
+
+			try {
+
+				var scheduler = take();
+				scheduler.computePeriod();
+
+				if (scheduler.isRunning()) {
+					submit(scheduler);
+				}
+
+			} catch (InterruptedException cause) {
+
+				if (running) {
+					LOGGER.warn("synthesizer host worker interrupted", cause);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits until the graph with the earliest deadline is released and removes it from the queue. Stopped graphs are
+	 * dropped.
+	 *
+	 * @return scheduler of the graph to compute
+	 * @throws InterruptedException if interrupted while waiting
+	 * @since 0.2.1
+	 */
+	private HostedScheduler take() throws InterruptedException {
+
+		lock.lock();
+
+		try {
+
+			while (true) {
+
+				var scheduler = queue.peek();
+
+				if (scheduler == null) {
+
+					queueChanged.await();
+
+				} else if (!scheduler.isRunning()) {
+
+					queue.poll();
+
+				} else {
+
+					var waitTime = scheduler.releaseTime() - nanoTime();
+
+					if (waitTime <= 0) {
+
+						queue.poll();
+						return scheduler;
+					}
+
+					queueChanged.awaitNanos(waitTime);
+				}
+			}
+
+		} finally {
+
+			lock.unlock();
+		}
+	}
+}
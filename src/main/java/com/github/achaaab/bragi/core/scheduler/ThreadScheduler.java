@@ -0,0 +1,71 @@
+package com.github.achaaab.bragi.core.scheduler;
+
+import com.github.achaaab.bragi.core.module.Module;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Historical scheduler: each module computes its chunks in its own thread and modules synchronize themselves through
+ * the blocking buffers connecting them.
+ * <p>
+ * Threads are either platform threads or virtual threads. Blocking buffers park and connections wait on locks rather
+ * than on monitors, so that a module waiting for a chunk unmounts its virtual thread instead of pinning a carrier
+ * thread. With virtual threads, large patches and hundreds of synthesizers can run in the same JVM without exhausting
+ * native threads.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ThreadScheduler implements Scheduler {
+
+	private final List<Module> modules;
+	private final List<Thread> threads;
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * Creates a scheduler starting 1 platform thread per module.
+	 *
+	 * @since 0.2.1
+	 */
+	public ThreadScheduler() {
+		this(false);
+	}
+
+	/**
+	 * Creates a scheduler starting 1 thread per module.
+	 *
+	 * @param virtualThreads whether to start virtual threads instead of platform threads
+	 * @since 0.2.1
+	 */
+	public ThreadScheduler(boolean virtualThreads) {
+
+		modules = new ArrayList<>();
+		threads = new ArrayList<>();
+		threadFactory = virtualThreads ? Thread.ofVirtual().factory() : Thread.ofPlatform().factory();
+	}
+
+	@Override
+	public synchronized void schedule(Module module) {
+
+		modules.add(module);
+		threads.add(module.start(threadFactory));
+	}
+
+	/**
+	 * Shuts every module down, then interrupts their threads, so that threads waiting for a chunk or for available
+	 * space exit too.
+	 *
+	 * @since 0.2.1
+	 */
+	@Override
+	public synchronized void stop() {
+
+		modules.forEach(Module::shutdown);
+		threads.forEach(Thread::interrupt);
+
+		modules.clear();
+		threads.clear();
+	}
+}
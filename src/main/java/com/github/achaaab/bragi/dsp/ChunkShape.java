@@ -0,0 +1,54 @@
+package com.github.achaaab.bragi.dsp;
+
+/**
+ * Describes how the samples of a chunk vary. Slow modulators (DCG, keyboard, envelope, LFO...) write control-rate
+ * chunks whose shape is known, so that consumers can skip per-sample work, typically an exponential conversion.
+ * <p>
+ * A shape is only a promise about the samples: every sample of a chunk is always written, so that a consumer ignoring
+ * shapes still reads the right signal.
+ * <p>
+ * Silent chunks let idle parts of a patch (closed amplifiers, filters fed with silence...) skip their work entirely.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public enum ChunkShape {
+
+	/**
+	 * Samples may vary arbitrarily.
+	 */
+	AUDIO,
+
+	/**
+	 * Every sample is equal to the first one.
+	 */
+	CONSTANT,
+
+	/**
+	 * Samples vary linearly from the first one to the last one.
+	 */
+	RAMP,
+
+	/**
+	 * Every sample is 0 V. A silent chunk is also constant.
+	 */
+	SILENT;
+
+	/**
+	 * @return whether every sample of a chunk of this shape is equal to the first one
+	 * @since 0.2.1
+	 */
+	public boolean isConstant() {
+		return this == CONSTANT || this == SILENT;
+	}
+
+	/**
+	 * @param shapes chunk shapes, may be {@code null} if unknown
+	 * @param index index of the chunk
+	 * @return shape of the chunk at the given index, {@link #AUDIO} if unknown
+	 * @since 0.2.1
+	 */
+	public static ChunkShape get(ChunkShape[] shapes, int index) {
+		return shapes == null || index >= shapes.length || shapes[index] == null ? AUDIO : shapes[index];
+	}
+}
@@ -0,0 +1,120 @@
+package com.github.achaaab.bragi.dsp;
+
+import static com.github.achaaab.bragi.common.FastMath.exp2;
+import static java.lang.Math.fma;
+import static java.lang.Math.log;
+
+/**
+ * Converts a modulation chunk in volts into exponential factors, {@code base ^ (offset + scale * modulation)}, as
+ * needed by exponential frequency or gain controls. Control-rate chunks are converted without per-sample
+ * exponentiation: a constant chunk gives a constant factor and a ramp gives a geometric progression of factors.
+ * Audio-rate chunks are converted with {@link com.github.achaaab.bragi.common.FastMath#exp2(double)}.
+ * <p>
+ * Factors must be requested in sample order, once per sample, after the chunk has been prepared.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ExponentialModulation {
+
+	private final double log2Base;
+
+	private float[] modulationSamples;
+	private double exponentOffset;
+	private double exponentScale;
+	private boolean constant;
+	private boolean perSample;
+	private double factor;
+	private double ratio;
+
+	/**
+	 * @param base base of the exponential conversion
+	 * @since 0.2.1
+	 */
+	public ExponentialModulation(double base) {
+
+		log2Base = log(base) / log(2.0);
+
+		modulationSamples = null;
+		constant = true;
+		perSample = false;
+		factor = 1.0;
+		ratio = 1.0;
+	}
+
+	/**
+	 * Prepares the conversion of a modulation chunk.
+	 *
+	 * @param modulationSamples modulation samples in volts, {@code null} if there is no modulation
+	 * @param modulationShape shape of the modulation chunk
+	 * @param offset exponent when there is no modulation
+	 * @param scale exponent increase per volt of modulation
+	 * @since 0.2.1
+	 */
+	public void prepare(float[] modulationSamples, ChunkShape modulationShape, double offset, double scale) {
+
+		this.modulationSamples = modulationSamples;
+
+		// base ^ (offset + scale * modulation) = 2 ^ (exponent offset + exponent scale * modulation)
+		exponentOffset = log2Base * offset;
+		exponentScale = log2Base * scale;
+		perSample = false;
+
+		if (modulationSamples == null) {
+
+			constant = true;
+			factor = exp2(exponentOffset);
+			ratio = 1.0;
+
+		} else if (modulationShape.isConstant() || modulationSamples.length == 1) {
+
+			constant = true;
+			factor = exp2(fma(exponentScale, modulationSamples[0], exponentOffset));
+			ratio = 1.0;
+
+		} else if (modulationShape == ChunkShape.RAMP) {
+
+			var lastIndex = modulationSamples.length - 1;
+			var slope = (modulationSamples[lastIndex] - modulationSamples[0]) / lastIndex;
+
+			constant = false;
+			factor = exp2(fma(exponentScale, modulationSamples[0], exponentOffset));
+			ratio = exp2(exponentScale * slope);
+
+		} else {
+
+			constant = false;
+			perSample = true;
+		}
+	}
+
+	/**
+	 * @return whether every factor of the prepared chunk is the same
+	 * @since 0.2.1
+	 */
+	public boolean isConstant() {
+		return constant;
+	}
+
+	/**
+	 * @param sampleIndex index of the sample, must follow the index given to the previous call
+	 * @return factor of the given sample
+	 * @since 0.2.1
+	 */
+	public double factor(int sampleIndex) {
+
+		double sampleFactor;
+
+		if (perSample) {
+
+			sampleFactor = exp2(fma(exponentScale, modulationSamples[sampleIndex], exponentOffset));
+
+		} else {
+
+			sampleFactor = factor;
+			factor *= ratio;
+		}
+
+		return sampleFactor;
+	}
+}
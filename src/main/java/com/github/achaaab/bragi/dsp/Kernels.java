@@ -0,0 +1,107 @@
+package com.github.achaaab.bragi.dsp;
+
+import org.slf4j.Logger;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Per-sample kernels shared by modules: gain, mix, normalization and clipping of float blocks.
+ * <p>
+ * {@link #INSTANCE} uses {@link #SCALAR} kernels: the JIT already unrolls and often vectorizes their loops, and the
+ * vector kernels were not measured faster on every kernel. The vector kernels (SIMD) are opt-in: they are compiled by
+ * the {@code vector} Maven profile and used when the system property {@value #VECTOR_PROPERTY} is {@code true} and the
+ * {@value #VECTOR_MODULE} module is available, that is when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}. Both implementations compute the same results.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public interface Kernels {
+
+	String VECTOR_MODULE = "jdk.incubator.vector";
+	String VECTOR_PROPERTY = "bragi.vector";
+
+	Kernels SCALAR = new ScalarKernels();
+	Kernels INSTANCE = Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "false")) ?
+			createVectorKernels() :
+			SCALAR;
+
+	/**
+	 * Multiplies a block by a factor, {@code output[i] = input[i] * factor}.
+	 *
+	 * @param input input block
+	 * @param factor factor to apply
+	 * @param output output block, may be the input block, its length is the number of samples to process
+	 * @since 0.2.1
+	 */
+	void scale(float[] input, float factor, float[] output);
+
+	/**
+	 * Mixes 2 blocks, {@code output[i] = input0[i] * factor0 + input1[i] * factor1}.
+	 *
+	 * @param input0 first input block
+	 * @param factor0 factor to apply to the first input block
+	 * @param input1 second input block
+	 * @param factor1 factor to apply to the second input block
+	 * @param output output block, may be an input block, its length is the number of samples to process
+	 * @since 0.2.1
+	 */
+	void mix(float[] input0, float factor0, float[] input1, float factor1, float[] output);
+
+	/**
+	 * Applies an affine transformation then clips,
+	 * {@code output[i] = min(maximalOutput, max(minimalOutput, fma(amplification, input[i] - input0, output0)))}.
+	 *
+	 * @param input input block
+	 * @param input0 input origin
+	 * @param amplification amplification
+	 * @param output0 output origin
+	 * @param minimalOutput minimal output
+	 * @param maximalOutput maximal output
+	 * @param output output block, may be the input block, its length is the number of samples to process
+	 * @since 0.2.1
+	 */
+	void normalize(float[] input, float input0, float amplification, float output0,
+			float minimalOutput, float maximalOutput, float[] output);
+
+	/**
+	 * @return name of these kernels
+	 * @since 0.2.1
+	 */
+	String name();
+
+	/**
+	 * Creates the vector kernels by reflection, so that no Vector API class is loaded when the module is missing and so
+	 * that the default build, without the vector kernels, compiles.
+	 *
+	 * @return vector kernels if available, scalar kernels otherwise
+	 * @since 0.2.1
+	 */
+	static Kernels createVectorKernels() {
+
+		Logger logger = getLogger(Kernels.class);
+		Kernels kernels;
+
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+
+			try {
+
+				kernels = (Kernels) Class.forName("com.github.achaaab.bragi.dsp.VectorKernels").
+						getConstructor().
+						newInstance();
+
+			} catch (ReflectiveOperationException | LinkageError cause) {
+
+				logger.warn("vector kernels are not available, falling back to scalar kernels", cause);
+				kernels = SCALAR;
+			}
+
+		} else {
+
+			logger.info("module {} not found, using scalar kernels", VECTOR_MODULE);
+			kernels = SCALAR;
+		}
+
+		return kernels;
+	}
+}
@@ -0,0 +1,152 @@
+package com.github.achaaab.bragi.dsp;
+
+import static com.github.achaaab.bragi.common.FastMath.exp;
+import static java.lang.Math.abs;
+import static java.lang.Math.fma;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * 4-pole ladder filter, filtering normalized samples in [-1.0, 1.0]: 4 cascaded one-pole filters (bilinear transform)
+ * with an inverted feedback for corner peaking (emphasis) and a band-limited sigmoid clipper. Its low-pass output is
+ * the last pole, its high-pass output is the input minus the last pole.
+ * <p>
+ * A filter must be tuned before filtering and it can be tuned again between any 2 samples.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class LadderFilter {
+
+	private double k;
+	private double p;
+	private double r;
+
+	private double y1;
+	private double y2;
+	private double y3;
+	private double y4;
+	private double oldX;
+	private double oldY1;
+	private double oldY2;
+	private double oldY3;
+
+	/**
+	 * Creates a ladder filter, tuned to let every frequency pass, without emphasis.
+	 *
+	 * @since 0.2.1
+	 */
+	public LadderFilter() {
+
+		tune(1.0, 1.0, 0.0);
+		reset();
+	}
+
+	/**
+	 * Computes the filter coefficients.
+	 *
+	 * @param cutoffFrequency cutoff frequency in hertz (Hz)
+	 * @param nyquistFrequency Nyquist frequency in hertz (Hz)
+	 * @param emphasis how much emphasis around cutoff frequency in {@code [0.0, 1.0]}
+	 * @since 0.2.1
+	 */
+	public void tune(double cutoffFrequency, double nyquistFrequency, double emphasis) {
+
+		var f = min(1.0, cutoffFrequency / nyquistFrequency);
+
+		// empirical tuning
+		k = fma(f, 3.6 - 1.6 * f, -1);
+		p = fma(0.5f, k, 0.5f);
+
+		var exponent = fma(-1.386249, p, 1.386249);
+		var scale = exp(exponent);
+
+		r = emphasis * scale;
+	}
+
+	/**
+	 * @param input normalized input sample
+	 * @return normalized low-pass sample
+	 * @since 0.2.1
+	 */
+	public double lowPass(double input) {
+
+		filter(input);
+		return y4;
+	}
+
+	/**
+	 * @param input normalized input sample
+	 * @return normalized high-pass sample
+	 * @since 0.2.1
+	 */
+	public double highPass(double input) {
+
+		filter(input);
+		return oldX - y4;
+	}
+
+	/**
+	 * Filters 1 sample.
+	 *
+	 * @param input normalized input sample
+	 * @since 0.2.1
+	 */
+	private void filter(double input) {
+
+		// inverted feedback for corner peaking (emphasis)
+		var x = input - r * y4;
+
+		// four cascaded one-pole filters (bilinear transform)
+		y1 = fma(p, x + oldX, -k * y1);
+		y2 = fma(p, y1 + oldY1, -k * y2);
+		y3 = fma(p, y2 + oldY2, -k * y3);
+		y4 = fma(p, y3 + oldY3, -k * y4);
+
+		// clipper band limited sigmoid
+		y4 = fma(-y4 * y4, y4 / 6, y4);
+
+		oldX = x;
+		oldY1 = y1;
+		oldY2 = y2;
+		oldY3 = y3;
+
+		/*
+		With high cutoff frequency and high emphasis, typically 10Khz and 100% we have an issue with
+		float overflow, starting with y4. To prevent this, we keep y4 in [-1.5f, 1.5f]. It does not seem
+		to deteriorate the filter.
+		 */
+
+		y4 = min(1.5, max(-1.5, y4));
+	}
+
+	/**
+	 * @param threshold normalized level
+	 * @return whether every state variable of this filter is below the given threshold
+	 * @since 0.2.1
+	 */
+	public boolean isDecayed(double threshold) {
+
+		var level = max(max(max(abs(y1), abs(y2)), max(abs(y3), abs(y4))),
+				max(max(abs(oldX), abs(oldY1)), max(abs(oldY2), abs(oldY3))));
+
+		return level < threshold;
+	}
+
+	/**
+	 * Resets every state variable of this filter to 0.
+	 *
+	 * @since 0.2.1
+	 */
+	public void reset() {
+
+		y1 = 0.0;
+		y2 = 0.0;
+		y3 = 0.0;
+		y4 = 0.0;
+		oldX = 0.0;
+		oldY1 = 0.0;
+		oldY2 = 0.0;
+		oldY3 = 0.0;
+	}
+}
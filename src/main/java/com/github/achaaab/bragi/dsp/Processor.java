@@ -0,0 +1,40 @@
+package com.github.achaaab.bragi.dsp;
+
+/**
+ * A processor computes a block of output samples from blocks of input samples. It never reads from or writes to a
+ * connection and it holds its own state, so the same kernel can be driven by a module thread, a graph scheduler, an
+ * offline renderer or a benchmark.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public interface Processor {
+
+	/**
+	 * Processes a block of samples. The number of samples to process is given by the length of the output block.
+	 *
+	 * @param inputChunks input blocks, in the order of the processor inputs, a block is {@code null} when there is no
+	 * sample for the corresponding input
+	 * @param outputChunk block in which to write the processed samples
+	 * @since 0.2.1
+	 */
+	void process(float[][] inputChunks, float[] outputChunk);
+
+	/**
+	 * Processes a block of samples, knowing the shapes of the input blocks. Processors aware of shapes override this
+	 * method to skip per-sample work on control-rate inputs and to describe their output block. By default, shapes are
+	 * ignored and the output block is described as {@link ChunkShape#AUDIO}.
+	 *
+	 * @param inputChunks input blocks, in the order of the processor inputs, a block is {@code null} when there is no
+	 * sample for the corresponding input
+	 * @param inputShapes shapes of the input blocks, {@code null} if unknown
+	 * @param outputChunk block in which to write the processed samples
+	 * @return shape of the processed block
+	 * @since 0.2.1
+	 */
+	default ChunkShape process(float[][] inputChunks, ChunkShape[] inputShapes, float[] outputChunk) {
+
+		process(inputChunks, outputChunk);
+		return ChunkShape.AUDIO;
+	}
+}
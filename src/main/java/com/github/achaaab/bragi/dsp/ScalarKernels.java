@@ -0,0 +1,52 @@
+package com.github.achaaab.bragi.dsp;
+
+import static java.lang.Math.fma;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Scalar kernels, always available.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ScalarKernels implements Kernels {
+
+	@Override
+	public void scale(float[] input, float factor, float[] output) {
+
+		var sampleCount = output.length;
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			output[sampleIndex] = input[sampleIndex] * factor;
+		}
+	}
+
+	@Override
+	public void mix(float[] input0, float factor0, float[] input1, float factor1, float[] output) {
+
+		var sampleCount = output.length;
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+			output[sampleIndex] = input0[sampleIndex] * factor0 + input1[sampleIndex] * factor1;
+		}
+	}
+
+	@Override
+	public void normalize(float[] input, float input0, float amplification, float output0,
+			float minimalOutput, float maximalOutput, float[] output) {
+
+		var sampleCount = output.length;
+
+		for (var sampleIndex = 0; sampleIndex < sampleCount; sampleIndex++) {
+
+			var sample = fma(amplification, input[sampleIndex] - input0, output0);
+			output[sampleIndex] = min(maximalOutput, max(minimalOutput, sample));
+		}
+	}
+
+	@Override
+	public String name() {
+		return "scalar";
+	}
+}
@@ -129,24 +129,34 @@ public class WavFile implements AudioFile {
 				frameCount = byteCount / header.frameSize();
 				var sampleSizeInBytes = header.sampleSize() / 8;
 
+				var normalizer = switch (sampleSizeInBytes) {
+
+					case 1 -> ONE_BYTE_NORMALIZER;
+					case 2 -> TWO_BYTES_NORMALIZER;
+					default -> throw new AudioFileException(
+							"unsupported sample size: " + sampleSizeInBytes + " bytes");
+				};
+
 				chunk = new float[channelCount][frameCount];
 
+				// decodes raw sample values, then normalizes each channel as a block
+
 				for (var frameIndex = 0; frameIndex < frameCount; frameIndex++) {
 
 					for (var channelIndex = 0; channelIndex < channelCount; channelIndex++) {
 
-						chunk[channelIndex][frameIndex] = switch (sampleSizeInBytes) {
-
-							case 1 -> ONE_BYTE_NORMALIZER.normalize(buffer.get(bufferIndex));
-							case 2 -> TWO_BYTES_NORMALIZER.normalize(buffer.getShort(bufferIndex));
-							default -> throw new AudioFileException(
-									"unsupported sample size: " + sampleSizeInBytes + " bytes");
-						};
+						chunk[channelIndex][frameIndex] = sampleSizeInBytes == 1 ?
+								buffer.get(bufferIndex) :
+								buffer.getShort(bufferIndex);
 
 						bufferIndex += sampleSizeInBytes;
 					}
 				}
 
+				for (var channelSamples : chunk) {
+					normalizer.normalize(channelSamples, channelSamples);
+				}
+
 			} catch (IOException cause) {
 
 				throw new AudioFileException(cause);
@@ -0,0 +1,248 @@
+package com.github.achaaab.bragi.file;
+
+import com.github.achaaab.bragi.common.Normalizer;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static com.github.achaaab.bragi.file.AudioFile.THREE_BYTES_MAX_VALUE;
+import static com.github.achaaab.bragi.file.AudioFile.THREE_BYTES_MIN_VALUE;
+import static com.github.achaaab.bragi.file.AudioFile.THREE_BYTES_NORMALIZER;
+import static com.github.achaaab.bragi.file.AudioFile.TWO_BYTES_MAX_VALUE;
+import static com.github.achaaab.bragi.file.AudioFile.TWO_BYTES_MIN_VALUE;
+import static com.github.achaaab.bragi.file.AudioFile.TWO_BYTES_NORMALIZER;
+import static com.github.achaaab.bragi.file.WavFileHeader.DATA_CHUNK_TITLE;
+import static com.github.achaaab.bragi.file.WavFileHeader.FILE_FORMAT;
+import static com.github.achaaab.bragi.file.WavFileHeader.FILE_TYPE;
+import static com.github.achaaab.bragi.file.WavFileHeader.FORMAT_CHUNK_TITLE;
+import static com.github.achaaab.bragi.file.WavFileHeader.FORMAT_PCM;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.round;
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Streams PCM samples to a WAV file. The header is written with an empty data chunk when the file is opened and
+ * completed with the actual sizes when the file is closed.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class WavFileWriter {
+
+	private static final Logger LOGGER = getLogger(WavFileWriter.class);
+
+	private static final int HEADER_SIZE = 44;
+	private static final int FORMAT_CHUNK_SIZE = 16;
+
+	private final Path path;
+	private final int channelCount;
+	private final int frameRate;
+	private final int sampleSize;
+	private final Normalizer normalizer;
+	private final int minimalValue;
+	private final int maximalValue;
+
+	private FileChannel channel;
+	private ByteBuffer buffer;
+	private long dataSize;
+
+	/**
+	 * @param path path of the WAV file to write
+	 * @param channelCount number of channels
+	 * @param frameRate number of frames per second
+	 * @param sampleSize sample size in bits, 16 and 24 are supported
+	 * @throws AudioFileException if the sample size is not supported
+	 * @since 0.2.1
+	 */
+	public WavFileWriter(Path path, int channelCount, int frameRate, int sampleSize) throws AudioFileException {
+
+		this.path = path;
+		this.channelCount = channelCount;
+		this.frameRate = frameRate;
+		this.sampleSize = sampleSize;
+
+		switch (sampleSize) {
+
+			case 16 -> {
+				normalizer = TWO_BYTES_NORMALIZER;
+				minimalValue = TWO_BYTES_MIN_VALUE;
+				maximalValue = TWO_BYTES_MAX_VALUE;
+			}
+
+			case 24 -> {
+				normalizer = THREE_BYTES_NORMALIZER;
+				minimalValue = THREE_BYTES_MIN_VALUE;
+				maximalValue = THREE_BYTES_MAX_VALUE;
+			}
+
+			default -> throw new AudioFileException("unsupported sample size: " + sampleSize + " bits");
+		}
+
+		channel = null;
+		buffer = null;
+		dataSize = 0;
+	}
+
+	/**
+	 * Creates or truncates the WAV file and writes its header.
+	 *
+	 * @throws AudioFileException exception while opening the WAV file
+	 * @since 0.2.1
+	 */
+	public void open() throws AudioFileException {
+
+		try {
+
+			LOGGER.info("opening WAV file {} for writing", path);
+
+			channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING);
+			dataSize = 0;
+
+			writeHeader();
+
+		} catch (IOException cause) {
+
+			throw new AudioFileException(cause);
+		}
+	}
+
+	/**
+	 * @return whether this writer is open
+	 * @since 0.2.1
+	 */
+	public boolean isOpen() {
+		return channel != null;
+	}
+
+	/**
+	 * Writes interleaved frames. A {@code null} channel is written as silence.
+	 *
+	 * @param chunk samples in volts, 1 array per channel
+	 * @param frameCount number of frames to write
+	 * @throws AudioFileException exception while writing to the WAV file
+	 * @since 0.2.1
+	 */
+	public void writeChunk(float[][] chunk, int frameCount) throws AudioFileException {
+
+		var sampleSizeInBytes = sampleSize / 8;
+		var byteCount = frameCount * channelCount * sampleSizeInBytes;
+
+		if (buffer == null || buffer.capacity() < byteCount) {
+
+			buffer = allocateDirect(byteCount);
+			buffer.order(LITTLE_ENDIAN);
+		}
+
+		buffer.clear();
+
+		for (var frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+
+			for (var channelIndex = 0; channelIndex < channelCount; channelIndex++) {
+
+				var channelSamples = channelIndex < chunk.length ? chunk[channelIndex] : null;
+				var sample = channelSamples == null ? 0.0f : channelSamples[frameIndex];
+				var value = round(normalizer.inverseNormalize(sample));
+
+				value = min(maximalValue, max(minimalValue, value));
+
+				if (sampleSizeInBytes == 2) {
+
+					buffer.putShort((short) value);
+
+				} else {
+
+					buffer.put((byte) value);
+					buffer.put((byte) (value >> 8));
+					buffer.put((byte) (value >> 16));
+				}
+			}
+		}
+
+		buffer.flip();
+
+		try {
+
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+
+		} catch (IOException cause) {
+
+			throw new AudioFileException(cause);
+		}
+
+		dataSize += byteCount;
+	}
+
+	/**
+	 * Completes the header with the actual sizes and closes the WAV file.
+	 *
+	 * @throws AudioFileException exception while closing the WAV file
+	 * @since 0.2.1
+	 */
+	public void close() throws AudioFileException {
+
+		try {
+
+			LOGGER.info("closing WAV file {}, {} bytes of data", path, dataSize);
+
+			writeHeader();
+			channel.close();
+			channel = null;
+
+		} catch (IOException cause) {
+
+			throw new AudioFileException(cause);
+		}
+	}
+
+	/**
+	 * Writes the header at the beginning of the file, with the current data size.
+	 *
+	 * @throws IOException exception while writing the header
+	 * @since 0.2.1
+	 */
+	private void writeHeader() throws IOException {
+
+		var frameSize = channelCount * sampleSize / 8;
+		var byteRate = frameRate * frameSize;
+		var header = ByteBuffer.allocate(HEADER_SIZE);
+
+		// strings are written with big endian order, but numbers (shorts and ints) are written with little endian order
+		header.order(LITTLE_ENDIAN);
+
+		header.put(FILE_TYPE.getBytes(US_ASCII));
+		header.putInt((int) (HEADER_SIZE - 8 + dataSize));
+		header.put(FILE_FORMAT.getBytes(US_ASCII));
+		header.put(FORMAT_CHUNK_TITLE.getBytes(US_ASCII));
+		header.putInt(FORMAT_CHUNK_SIZE);
+		header.putShort(FORMAT_PCM);
+		header.putShort((short) channelCount);
+		header.putInt(frameRate);
+		header.putInt(byteRate);
+		header.putShort((short) frameSize);
+		header.putShort((short) sampleSize);
+		header.put(DATA_CHUNK_TITLE.getBytes(US_ASCII));
+		header.putInt((int) dataSize);
+
+		header.flip();
+
+		channel.position(0);
+
+		while (header.hasRemaining()) {
+			channel.write(header);
+		}
+
+		channel.position(HEADER_SIZE + dataSize);
+	}
+}
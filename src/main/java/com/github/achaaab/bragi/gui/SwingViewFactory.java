@@ -0,0 +1,56 @@
+package com.github.achaaab.bragi.gui;
+
+import com.github.achaaab.bragi.core.ViewFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Supplier;
+
+import static java.lang.Thread.currentThread;
+import static javax.swing.SwingUtilities.invokeAndWait;
+import static javax.swing.SwingUtilities.isEventDispatchThread;
+
+/**
+ * A view factory creating Swing views on the event dispatch thread.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class SwingViewFactory implements ViewFactory {
+
+	/**
+	 * @see #SWING
+	 * @since 0.2.1
+	 */
+	public SwingViewFactory() {
+
+	}
+
+	@Override
+	public <V> V create(Supplier<V> viewSupplier) {
+
+		if (isEventDispatchThread()) {
+			return viewSupplier.get();
+		}
+
+		var view = new Object[1];
+
+		try {
+
+			invokeAndWait(() -> view[0] = viewSupplier.get());
+
+		} catch (InvocationTargetException cause) {
+
+			throw new ViewCreationException(cause);
+
+		} catch (InterruptedException cause) {
+
+			currentThread().interrupt();
+			throw new ViewCreationException(cause);
+		}
+
+		@SuppressWarnings("unchecked")
+		var createdView = (V) view[0];
+
+		return createdView;
+	}
+}
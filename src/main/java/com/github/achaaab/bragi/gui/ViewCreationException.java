@@ -0,0 +1,20 @@
+package com.github.achaaab.bragi.gui;
+
+/**
+ * Exception thrown when a view cannot be created.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class ViewCreationException extends RuntimeException {
+
+	private static final String DEFAULT_MESSAGE = "An exception prevented the creation of a view.";
+
+	/**
+	 * @param cause cause of view creation failure
+	 * @since 0.2.1
+	 */
+	public ViewCreationException(Exception cause) {
+		super(DEFAULT_MESSAGE, cause);
+	}
+}
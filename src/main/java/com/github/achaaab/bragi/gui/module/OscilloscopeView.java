@@ -1,6 +1,5 @@
 package com.github.achaaab.bragi.gui.module;
 
-import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.module.consumer.Oscilloscope;
 import com.github.achaaab.bragi.gui.common.PaintedView;
 
@@ -52,7 +51,7 @@ public class OscilloscopeView extends PaintedView {
 
 		this.model = model;
 
-		length = Settings.INSTANCE.frameRate() / 60;
+		length = model.settings().frameRate() / 60;
 		secondsPerDivision = (float) targetFrameTime / HORIZONTAL_DIVISION_COUNT;
 
 		samples = new float[length];
@@ -116,7 +115,7 @@ public class OscilloscopeView extends PaintedView {
 
 		model.read(samples);
 
-		float sampleRate = Settings.INSTANCE.frameRate();
+		float sampleRate = model.settings().frameRate();
 
 		for (var sampleIndex = 0; sampleIndex < length; sampleIndex++) {
 
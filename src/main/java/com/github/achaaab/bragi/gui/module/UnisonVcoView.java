@@ -0,0 +1,81 @@
+package com.github.achaaab.bragi.gui.module;
+
+import com.github.achaaab.bragi.core.module.producer.UnisonVco;
+import com.github.achaaab.bragi.gui.component.WaveformComboBox;
+
+import javax.swing.JPanel;
+import javax.swing.JSlider;
+import javax.swing.border.TitledBorder;
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.GridLayout;
+
+import static com.github.achaaab.bragi.core.module.producer.UnisonVco.MAXIMAL_DETUNE;
+import static com.github.achaaab.bragi.core.module.producer.UnisonVco.MAXIMAL_VOICE_COUNT;
+import static com.github.achaaab.bragi.core.module.producer.UnisonVco.MAXIMAL_WIDTH;
+import static com.github.achaaab.bragi.gui.common.ViewScale.scale;
+import static java.awt.BorderLayout.CENTER;
+import static java.awt.BorderLayout.NORTH;
+
+/**
+ * unison VCO Swing view
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class UnisonVcoView extends JPanel {
+
+	private static final Dimension SLIDERS_SIZE = scale(new Dimension(350, 60));
+
+	/**
+	 * @param model unison VCO model
+	 * @since 0.2.1
+	 */
+	public UnisonVcoView(UnisonVco model) {
+
+		var waveformComboBox = new WaveformComboBox();
+		waveformComboBox.setSelectedItem(model.getWaveform());
+
+		var octaveSlider = createSlider("Octave", -4, 4, model.getOctave(), 1);
+		var voiceCountSlider = createSlider("Voices", 1, MAXIMAL_VOICE_COUNT, model.getVoiceCount(), 1);
+		var detuneSlider = createSlider("Detune (cents)", 0, MAXIMAL_DETUNE, model.getDetune(), 10);
+		var widthSlider = createSlider("Stereo width (%)", 0, MAXIMAL_WIDTH, model.getWidth(), 10);
+
+		waveformComboBox.addActionListener(actionEvent -> model.setWaveform(waveformComboBox.getSelectedWaveform()));
+		octaveSlider.addChangeListener(changeEvent -> model.setOctave(octaveSlider.getValue()));
+		voiceCountSlider.addChangeListener(changeEvent -> model.setVoiceCount(voiceCountSlider.getValue()));
+		detuneSlider.addChangeListener(changeEvent -> model.setDetune(detuneSlider.getValue()));
+		widthSlider.addChangeListener(changeEvent -> model.setWidth(widthSlider.getValue()));
+
+		var sliders = new JPanel(new GridLayout(4, 1));
+		sliders.add(octaveSlider);
+		sliders.add(voiceCountSlider);
+		sliders.add(detuneSlider);
+		sliders.add(widthSlider);
+
+		setLayout(new BorderLayout());
+		add(waveformComboBox, NORTH);
+		add(sliders, CENTER);
+	}
+
+	/**
+	 * @param title title of the slider
+	 * @param minimum minimal value
+	 * @param maximum maximal value
+	 * @param value initial value
+	 * @param majorTickSpacing spacing between major ticks
+	 * @return created slider
+	 * @since 0.2.1
+	 */
+	private static JSlider createSlider(String title, int minimum, int maximum, int value, int majorTickSpacing) {
+
+		var slider = new JSlider(minimum, maximum, value);
+		slider.setBorder(new TitledBorder(title));
+		slider.setMajorTickSpacing(majorTickSpacing);
+		slider.setPaintTicks(true);
+		slider.setPaintLabels(true);
+		slider.setPreferredSize(SLIDERS_SIZE);
+
+		return slider;
+	}
+}
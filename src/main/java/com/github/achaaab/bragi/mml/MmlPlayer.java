@@ -4,11 +4,9 @@ import com.github.achaaab.bragi.core.module.producer.Keyboard;
 import com.github.achaaab.bragi.scale.Note;
 import org.slf4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
 import static java.lang.Thread.sleep;
-import static javax.swing.SwingUtilities.invokeAndWait;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -43,18 +41,22 @@ public class MmlPlayer {
 
 		this.keyboard = keyboard;
 
-		try {
-			invokeAndWait(() -> view = new MmlPlayerView(this));
-		} catch (InterruptedException | InvocationTargetException cause) {
-			throw new MmlException(cause);
-		}
+		view = null;
 	}
 
 	/**
+	 * Returns the view of this MML player, creating it on first call. This must be called from the event dispatch
+	 * thread.
+	 *
 	 * @return view of this MML player
 	 * @since 0.2.0
 	 */
 	public MmlPlayerView view() {
+
+		if (view == null) {
+			view = new MmlPlayerView(this);
+		}
+
 		return view;
 	}
 
@@ -70,7 +72,11 @@ public class MmlPlayer {
 		while (!end) {
 
 			var command = parser.nextCommand();
-			view.showCurrentCommand(command);
+
+			if (view != null) {
+				view.showCurrentCommand(command);
+			}
+
 			command.execute(this);
 		}
 	}
@@ -3,6 +3,7 @@ package com.github.achaaab.bragi;
 import com.github.achaaab.bragi.common.Settings;
 import com.github.achaaab.bragi.core.Synthesizer;
 import com.github.achaaab.bragi.core.module.Module;
+import com.github.achaaab.bragi.core.module.consumer.OfflineRenderer;
 import com.github.achaaab.bragi.core.module.consumer.Oscilloscope;
 import com.github.achaaab.bragi.core.module.consumer.Speaker;
 import com.github.achaaab.bragi.core.module.consumer.SpectrumAnalyzer;
@@ -22,6 +23,10 @@ import com.github.achaaab.bragi.core.module.transformer.HighPassVcf;
 import com.github.achaaab.bragi.core.module.transformer.LowPassVcf;
 import com.github.achaaab.bragi.core.module.transformer.Mixer;
 import com.github.achaaab.bragi.core.module.transformer.Vca;
+import com.github.achaaab.bragi.core.scheduler.GraphScheduler;
+import com.github.achaaab.bragi.core.scheduler.ParallelGraphScheduler;
+import com.github.achaaab.bragi.core.scheduler.Scheduler;
+import com.github.achaaab.bragi.core.scheduler.ThreadScheduler;
 import org.slf4j.Logger;
 
 import java.nio.file.Path;
@@ -217,6 +222,94 @@ public class Test {
 		createSynthesizer(keyboard);
 	}
 
+	/**
+	 * Tests the {@link GraphScheduler}: a piano-like patch with a feedback loop computed on a single audio thread.
+	 *
+	 * @since 0.2.1
+	 */
+	public static void testGraphScheduler() {
+
+		var keyboard = new Keyboard();
+		var vco = new Vco();
+		var filter = new LowPassVcf();
+		var envelope = new Vca();
+		var adsr = new Adsr();
+		var lfo = new Lfo();
+		var speaker = new Speaker();
+
+		keyboard.connect(vco);
+		vco.connect(filter);
+		filter.connect(envelope);
+		speaker.connectInputs(envelope, envelope);
+
+		keyboard.gate().connect(adsr.gate());
+		adsr.connect(envelope.gain());
+
+		// feedback loop, broken by the scheduler with a 1-chunk delay
+		lfo.connect(filter.modulation());
+		envelope.connect(vco.modulation());
+
+		vco.setWaveform(SAWTOOTH_TRIANGULAR);
+		adsr.setAttack(1000.0);
+		adsr.setRelease(2.0);
+
+		visualizeOutputs(envelope);
+		createSynthesizer(keyboard, new GraphScheduler());
+	}
+
+	/**
+	 * Tests the {@link OfflineRenderer}: renders 10 seconds of a filtered VCO to a temporary WAV file, as fast as
+	 * possible and without any view.
+	 *
+	 * @since 0.2.1
+	 */
+	public static void testOfflineRenderer() {
+
+		var vco = new Vco();
+		var filter = new LowPassVcf();
+		var lfo = new Lfo();
+		var renderer = new OfflineRenderer(Path.of(System.getProperty("java.io.tmpdir"), "bragi_offline.wav"));
+
+		vco.connect(filter);
+		lfo.connect(filter.modulation());
+		renderer.connectInputs(filter, filter);
+
+		vco.setWaveform(SAWTOOTH_TRIANGULAR);
+
+		var realTimeFactor = renderer.render(10.0);
+		LOGGER.info("real-time factor: {}", realTimeFactor);
+	}
+
+	/**
+	 * Tests the {@link ParallelGraphScheduler}: both VCO branches are computed at the same time and joined by the
+	 * mixer.
+	 *
+	 * @since 0.2.1
+	 */
+	public static void testParallelGraphScheduler() {
+
+		var keyboard = new Keyboard();
+		var vcoHigh = new Vco("high");
+		var vcoLow = new Vco("low");
+		var filterHigh = new LowPassVcf("filter_high");
+		var filterLow = new LowPassVcf("filter_low");
+		var mixer = new Mixer();
+		var speaker = new Speaker();
+
+		keyboard.connect(vcoHigh, vcoLow);
+		vcoHigh.connect(filterHigh);
+		vcoLow.connect(filterLow);
+		mixer.connectInputs(filterHigh, filterLow);
+		speaker.connectInputs(mixer, mixer);
+
+		vcoHigh.setWaveform(TRIANGLE);
+		vcoLow.setWaveform(SAWTOOTH_TRIANGULAR);
+		vcoLow.setOctave(-1);
+
+		visualizeOutputs(mixer);
+		createSynthesizer(keyboard, new ParallelGraphScheduler());
+	}
+
 	/**
 	 * Tests the {@link FlacPlayer} module.
 	 *
@@ -536,8 +629,20 @@ public class Test {
 	 * @since 0.2.0
 	 */
 	private static void createSynthesizer(Module module) {
+		createSynthesizer(module, new ThreadScheduler());
+	}
+
+	/**
+	 * Creates a new synthesizer computed by the given scheduler and add given module to it.
+	 * Also adds recursively every module connected directly or not to the given module.
+	 *
+	 * @param module module to add to the created synthesizer
+	 * @param scheduler scheduler computing the modules
+	 * @since 0.2.1
+	 */
+	private static void createSynthesizer(Module module, Scheduler scheduler) {
 
-		var synthesizer = new Synthesizer();
+		var synthesizer = new Synthesizer(scheduler);
 		synthesizer.addChain(module);
 
 		invokeLater(() -> synthesizer.getView().flowLayout(null));
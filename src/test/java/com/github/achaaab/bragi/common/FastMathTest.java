@@ -0,0 +1,102 @@
+package com.github.achaaab.bragi.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static com.github.achaaab.bragi.common.FastMath.MAXIMAL_RELATIVE_ERROR;
+import static com.github.achaaab.bragi.common.FastMath.dbToGain;
+import static com.github.achaaab.bragi.common.FastMath.exp;
+import static com.github.achaaab.bragi.common.FastMath.exp2;
+import static java.lang.Math.abs;
+import static java.lang.Math.nextDown;
+import static java.lang.Math.pow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the error bound of {@link FastMath} against {@link Math}, over the whole range of finite results.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+class FastMathTest {
+
+	private static final int SAMPLE_COUNT = 1_000_000;
+
+	@Test
+	void exp2IsBounded() {
+
+		assertBounded(-1022.0, 1024.0, FastMath::exp2, x -> pow(2.0, x));
+		assertBounded(-10.0, 10.0, FastMath::exp2, x -> pow(2.0, x));
+	}
+
+	@Test
+	void exp2OfIntegersIsExact() {
+
+		for (var n = -1022; n < 1024; n++) {
+			assertEquals(pow(2.0, n), exp2(n));
+		}
+	}
+
+	@Test
+	void exp2NearLimitsIsBounded() {
+
+		assertEquals(Double.MIN_NORMAL, exp2(-1022.0));
+		assertEquals(0.0, exp2(nextDown(-1022.0)));
+		assertEquals(Double.POSITIVE_INFINITY, exp2(1024.0));
+		assertTrue(Double.isNaN(exp2(Double.NaN)));
+
+		for (var x = 1023.98; x < 1024.0; x += 1.0e-5) {
+			assertRelativeError(pow(2.0, x), exp2(x));
+		}
+
+		assertRelativeError(pow(2.0, nextDown(1024.0)), exp2(nextDown(1024.0)));
+	}
+
+	@Test
+	void expIsBounded() {
+		assertBounded(-700.0, 700.0, FastMath::exp, Math::exp);
+	}
+
+	@Test
+	void dbToGainIsBounded() {
+
+		assertBounded(-200.0, 200.0, FastMath::dbToGain, decibels -> pow(10.0, decibels / 20.0));
+		assertEquals(1.0, dbToGain(0.0));
+	}
+
+	/**
+	 * Compares a fast function to its reference at evenly spaced points of a range.
+	 *
+	 * @param from start of the range (inclusive)
+	 * @param to end of the range (exclusive)
+	 * @param function fast function
+	 * @param reference reference function
+	 * @since 0.2.1
+	 */
+	private static void assertBounded(double from, double to, DoubleUnaryOperator function,
+			DoubleUnaryOperator reference) {
+
+		var step = (to - from) / SAMPLE_COUNT;
+
+		for (var sampleIndex = 0; sampleIndex < SAMPLE_COUNT; sampleIndex++) {
+
+			var x = from + sampleIndex * step;
+			assertRelativeError(reference.applyAsDouble(x), function.applyAsDouble(x));
+		}
+	}
+
+	/**
+	 * @param expected expected value, finite and strictly positive
+	 * @param actual actual value
+	 * @since 0.2.1
+	 */
+	private static void assertRelativeError(double expected, double actual) {
+
+		var relativeError = abs(actual - expected) / expected;
+
+		assertTrue(relativeError <= MAXIMAL_RELATIVE_ERROR,
+				() -> "expected " + expected + " but was " + actual + ", relative error " + relativeError);
+	}
+}
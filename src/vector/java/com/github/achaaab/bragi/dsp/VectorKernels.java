@@ -0,0 +1,90 @@
+package com.github.achaaab.bragi.dsp;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import static java.lang.Math.fma;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * SIMD kernels based on the Vector API, with the preferred vector size of the platform. The remaining samples, fewer
+ * than a vector, are processed with scalar code. This class must only be loaded when the
+ * {@value Kernels#VECTOR_MODULE} module is available, see {@link Kernels#createVectorKernels()}.
+ *
+ * @author Jonathan Guéhenneux
+ * @since 0.2.1
+ */
+public class VectorKernels implements Kernels {
+
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+	@Override
+	public void scale(float[] input, float factor, float[] output) {
+
+		var sampleCount = output.length;
+		var vectorBound = SPECIES.loopBound(sampleCount);
+		var sampleIndex = 0;
+
+		for (; sampleIndex < vectorBound; sampleIndex += SPECIES.length()) {
+
+			FloatVector.fromArray(SPECIES, input, sampleIndex).
+					mul(factor).
+					intoArray(output, sampleIndex);
+		}
+
+		for (; sampleIndex < sampleCount; sampleIndex++) {
+			output[sampleIndex] = input[sampleIndex] * factor;
+		}
+	}
+
+	@Override
+	public void mix(float[] input0, float factor0, float[] input1, float factor1, float[] output) {
+
+		var sampleCount = output.length;
+		var vectorBound = SPECIES.loopBound(sampleCount);
+		var sampleIndex = 0;
+
+		for (; sampleIndex < vectorBound; sampleIndex += SPECIES.length()) {
+
+			var vector0 = FloatVector.fromArray(SPECIES, input0, sampleIndex).mul(factor0);
+			var vector1 = FloatVector.fromArray(SPECIES, input1, sampleIndex).mul(factor1);
+
+			vector0.add(vector1).intoArray(output, sampleIndex);
+		}
+
+		for (; sampleIndex < sampleCount; sampleIndex++) {
+			output[sampleIndex] = input0[sampleIndex] * factor0 + input1[sampleIndex] * factor1;
+		}
+	}
+
+	@Override
+	public void normalize(float[] input, float input0, float amplification, float output0,
+			float minimalOutput, float maximalOutput, float[] output) {
+
+		var sampleCount = output.length;
+		var vectorBound = SPECIES.loopBound(sampleCount);
+		var sampleIndex = 0;
+
+		for (; sampleIndex < vectorBound; sampleIndex += SPECIES.length()) {
+
+			FloatVector.fromArray(SPECIES, input, sampleIndex).
+					sub(input0).
+					fma(amplification, output0).
+					max(minimalOutput).
+					min(maximalOutput).
+					intoArray(output, sampleIndex);
+		}
+
+		for (; sampleIndex < sampleCount; sampleIndex++) {
+
+			var sample = fma(amplification, input[sampleIndex] - input0, output0);
+			output[sampleIndex] = min(maximalOutput, max(minimalOutput, sample));
+		}
+	}
+
+	@Override
+	public String name() {
+		return "vector " + SPECIES;
+	}
+}